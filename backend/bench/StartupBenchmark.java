@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class StartupBenchmark {
+  private static final long READY_TIMEOUT_MILLIS = 120_000;
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.out.println("usage: StartupBenchmark <runs> <label=command> [<label=command> ...]");
+      return;
+    }
+    int runs = Integer.parseInt(args[0]);
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    System.out.printf("%-12s %12s %12s %12s %12s%n", "variant", "ready p50", "ready min", "ready max", "RSS p50");
+    for (int i = 1; i < args.length; i++) {
+      int separator = args[i].indexOf('=');
+      String label = args[i].substring(0, separator);
+      List<String> command = Arrays.asList(args[i].substring(separator + 1).trim().split("\\s+"));
+      long[] readyMillis = new long[runs];
+      long[] rssKb = new long[runs];
+      for (int run = 0; run < runs; run++) {
+        long[] sample = measure(client, command);
+        readyMillis[run] = sample[0];
+        rssKb[run] = sample[1];
+      }
+      Arrays.sort(readyMillis);
+      Arrays.sort(rssKb);
+      System.out.printf("%-12s %10d ms %10d ms %10d ms %9.1f MB%n",
+        label, readyMillis[runs / 2], readyMillis[0], readyMillis[runs - 1], rssKb[runs / 2] / 1024.0);
+    }
+  }
+
+  private static long[] measure(HttpClient client, List<String> command) throws Exception {
+    int port = freePort();
+    List<String> full = new ArrayList<>(command);
+    full.add("--server.port=" + port);
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(full)
+      .redirectErrorStream(true)
+      .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+      .start();
+    try {
+      waitReady(client, port, process);
+      long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      return new long[] { readyMillis, rssKb(process.pid()) };
+    } finally {
+      process.destroy();
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private static void waitReady(HttpClient client, int port, Process process) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/info"))
+      .timeout(Duration.ofMillis(500))
+      .build();
+    long deadline = System.currentTimeMillis() + READY_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException("process exited with code " + process.exitValue());
+      }
+      try {
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+        return;
+      } catch (IOException ex) {
+        Thread.sleep(10);
+      }
+    }
+    throw new IllegalStateException("process not ready after " + READY_TIMEOUT_MILLIS + " ms");
+  }
+
+  private static long rssKb(long pid) throws Exception {
+    Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+    String output = new String(ps.getInputStream().readAllBytes()).trim();
+    ps.waitFor();
+    return output.isEmpty() ? 0 : Long.parseLong(output);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,129 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintplanner.backend.component.DefaultStateFactory;
+import com.sprintplanner.backend.component.StateInterner;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskWorkDetail;
+import com.sprintplanner.backend.domain.TaskWorkSegment;
+import com.sprintplanner.backend.domain.WorkingPeriod;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StateMemoryBenchmark {
+  private static final String[] STATUSES = { "todo", "doing", "done" };
+  private static final String[] SENIORITIES = { "Sênior", "Pleno", "Júnior" };
+  private static final String[] MATURITIES = { "Plena", "Mediana", "Inicial" };
+
+  public static void main(String[] args) throws Exception {
+    int sprints = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    int tasks = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    ObjectMapper objectMapper = new ObjectMapper();
+    byte[] json = objectMapper.writeValueAsBytes(sampleState(tasks));
+    System.out.printf("sprints=%d tasks/sprint=%d json=%d bytes%n", sprints, tasks, json.length);
+
+    long plain = retained(objectMapper, json, sprints, null);
+    long interned = retained(objectMapper, json, sprints, new StateInterner());
+    long taskCount = (long) sprints * tasks;
+    System.out.printf("before: %,d bytes/task%n", plain / taskCount);
+    System.out.printf("after:  %,d bytes/task%n", interned / taskCount);
+    System.out.printf("saved:  %.1f%%%n", 100.0 * (plain - interned) / plain);
+  }
+
+  private static long retained(ObjectMapper objectMapper, byte[] json, int sprints, StateInterner interner) throws Exception {
+    long base = usedAfterGc();
+    List<RootPersistedState> states = new ArrayList<>();
+    for (int i = 0; i < sprints; i++) {
+      RootPersistedState state = objectMapper.readValue(json, RootPersistedState.class);
+      states.add(interner == null ? state : interner.intern(state));
+    }
+    long used = usedAfterGc() - base;
+    if (states.size() != sprints) {
+      throw new IllegalStateException();
+    }
+    return used;
+  }
+
+  private static long usedAfterGc() throws InterruptedException {
+    for (int i = 0; i < 4; i++) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static RootPersistedState sampleState(int taskCount) {
+    RootPersistedState state = new DefaultStateFactory().buildDefaultState("Sprint de referência");
+    LocalDate start = LocalDate.of(2026, 3, 2);
+    state.getSprint().setStartDate(start.toString());
+    state.getSprint().setEndDate(start.plusDays(13).toString());
+    List<DaySchedule> days = new ArrayList<>();
+    for (int d = 0; d < 14; d++) {
+      days.add(DaySchedule.builder().date(start.plusDays(d).toString()).isNonWorking(d % 7 >= 5).periods(periods()).build());
+    }
+    state.getCalendar().setDaySchedules(days);
+    List<Member> members = new ArrayList<>();
+    for (int m = 0; m < 10; m++) {
+      members.add(Member.builder()
+        .id("member-" + m)
+        .name("Pessoa " + m)
+        .roleType("Desenvolvedor")
+        .seniority(SENIORITIES[m % 3])
+        .maturity(MATURITIES[m % 3])
+        .availabilityPercent(100)
+        .availabilityEvents(new ArrayList<>())
+        .build());
+    }
+    state.getMembers().setItems(members);
+    state.getEvents().setItems(new ArrayList<>(List.of(
+      EventItem.builder().id("e1").type("Daily").date(start.toString()).minutes(15).recurringDaily(true).build(),
+      EventItem.builder().id("e2").type("Planning").date(start.toString()).minutes(120).build()
+    )));
+    List<TaskItem> tasks = new ArrayList<>();
+    for (int t = 0; t < taskCount; t++) {
+      List<TaskWorkSegment> timeline = new ArrayList<>();
+      for (int s = 0; s < 6; s++) {
+        timeline.add(TaskWorkSegment.builder()
+          .date(start.plusDays((t + s) % 10).toString())
+          .startTime(s % 2 == 0 ? "08:00" : "13:00")
+          .endTime(s % 2 == 0 ? "12:00" : "17:00")
+          .minutes(240)
+          .detail(TaskWorkDetail.builder()
+            .periods(periods())
+            .baseMinutes(480)
+            .capacityMinutes(480)
+            .availabilityPercent(100)
+            .seniorityFactor(1)
+            .maturityFactor(1)
+            .events(new ArrayList<>())
+            .build())
+          .build());
+      }
+      tasks.add(TaskItem.builder()
+        .id("task-" + t)
+        .name("Tarefa " + t)
+        .assigneeMemberName("Pessoa " + (t % 10))
+        .storyPoints(3)
+        .dueDate(start.plusDays(t % 14).toString())
+        .dependencies(t == 0 ? new ArrayList<>() : new ArrayList<>(List.of("task-" + (t - 1))))
+        .status(STATUSES[t % 3])
+        .computedStartDate("02/03/2026 08:00")
+        .computedEndDate("06/03/2026 17:00")
+        .computedTimeline(timeline)
+        .build());
+    }
+    state.getTasks().setItems(tasks);
+    return state;
+  }
+
+  private static List<WorkingPeriod> periods() {
+    return new ArrayList<>(List.of(
+      WorkingPeriod.builder().start("08:00").end("12:00").build(),
+      WorkingPeriod.builder().start("13:00").end("17:00").build()
+    ));
+  }
+}
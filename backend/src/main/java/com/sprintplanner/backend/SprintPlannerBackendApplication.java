@@ -1,9 +1,12 @@
 package com.sprintplanner.backend;
 
+import com.sprintplanner.backend.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SprintPlannerBackendApplication {
   public static void main(String[] args) {
     SpringApplication.run(SprintPlannerBackendApplication.class, args);
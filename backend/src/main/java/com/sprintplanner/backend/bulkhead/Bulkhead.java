@@ -0,0 +1,113 @@
+package com.sprintplanner.backend.bulkhead;
+
+import com.sprintplanner.backend.config.BulkheadProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Bulkhead {
+  private static final double SHORT_RTT_ALPHA = 0.5;
+  private static final double LONG_RTT_ALPHA = 0.01;
+  private static final double RTT_TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double SMOOTHING = 0.2;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition available = lock.newCondition();
+  private final int minLimit;
+  private final int maxLimit;
+  private final int queueCapacity;
+  private final long queueTimeoutNanos;
+  private volatile double limit;
+  private volatile int inFlight;
+  private volatile int queued;
+  private double shortRtt;
+  private double longRtt;
+
+  public Bulkhead(BulkheadProperties.Compartment compartment) {
+    this.minLimit = Math.max(1, compartment.getMinLimit());
+    this.maxLimit = Math.max(minLimit, compartment.getMaxLimit());
+    this.queueCapacity = Math.max(0, compartment.getQueueCapacity());
+    this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, compartment.getQueueTimeoutMillis()));
+    this.limit = Math.min(maxLimit, Math.max(minLimit, compartment.getInitialLimit()));
+  }
+
+  public boolean tryAcquire() throws InterruptedException {
+    lock.lock();
+    try {
+      if (inFlight < (int) limit) {
+        inFlight++;
+        return true;
+      }
+      if (queued >= queueCapacity || queueTimeoutNanos == 0) {
+        return false;
+      }
+      queued++;
+      try {
+        long remaining = queueTimeoutNanos;
+        while (inFlight >= (int) limit) {
+          if (remaining <= 0) {
+            return false;
+          }
+          remaining = available.awaitNanos(remaining);
+        }
+        inFlight++;
+        return true;
+      } finally {
+        queued--;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void release(long latencyNanos) {
+    lock.lock();
+    try {
+      int before = (int) limit;
+      sample(latencyNanos, inFlight);
+      inFlight--;
+      if ((int) limit > before) {
+        available.signalAll();
+      } else {
+        available.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int limit() {
+    return (int) limit;
+  }
+
+  public int inFlight() {
+    return inFlight;
+  }
+
+  public int queued() {
+    return queued;
+  }
+
+  private void sample(long latencyNanos, int concurrent) {
+    if (minLimit == maxLimit || latencyNanos <= 0) {
+      return;
+    }
+    if (longRtt == 0) {
+      shortRtt = latencyNanos;
+      longRtt = latencyNanos;
+      return;
+    }
+    shortRtt += (latencyNanos - shortRtt) * SHORT_RTT_ALPHA;
+    longRtt += (latencyNanos - longRtt) * LONG_RTT_ALPHA;
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+    if (concurrent < limit / 2) {
+      return;
+    }
+    double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+    double next = limit * gradient + Math.sqrt(limit);
+    limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + next * SMOOTHING));
+  }
+}
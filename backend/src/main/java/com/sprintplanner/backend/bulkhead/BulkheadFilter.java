@@ -0,0 +1,163 @@
+package com.sprintplanner.backend.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintplanner.backend.config.BulkheadProperties;
+import com.sprintplanner.backend.dto.ErrorResponseDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BulkheadFilter extends OncePerRequestFilter {
+  private final RequestClassifier requestClassifier;
+  private final BulkheadProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Map<RequestClass, Bulkhead> bulkheads = new EnumMap<>(RequestClass.class);
+  private final Map<RequestClass, Counter> rejections = new EnumMap<>(RequestClass.class);
+
+  public BulkheadFilter(
+    RequestClassifier requestClassifier,
+    BulkheadProperties properties,
+    ObjectMapper objectMapper,
+    MeterRegistry meterRegistry
+  ) {
+    this.requestClassifier = requestClassifier;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    for (RequestClass requestClass : RequestClass.values()) {
+      Bulkhead bulkhead = new Bulkhead(properties.compartment(requestClass));
+      bulkheads.put(requestClass, bulkhead);
+      rejections.put(requestClass, Counter.builder("sprintplanner.bulkhead.rejections")
+        .tag("class", requestClass.code())
+        .register(meterRegistry));
+      Gauge.builder("sprintplanner.bulkhead.queue.depth", bulkhead, Bulkhead::queued)
+        .tag("class", requestClass.code())
+        .register(meterRegistry);
+      Gauge.builder("sprintplanner.bulkhead.in.flight", bulkhead, Bulkhead::inFlight)
+        .tag("class", requestClass.code())
+        .register(meterRegistry);
+      Gauge.builder("sprintplanner.bulkhead.limit", bulkhead, Bulkhead::limit)
+        .tag("class", requestClass.code())
+        .register(meterRegistry);
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+    RequestClass requestClass = requestClassifier.classify(request);
+    if (requestClass == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    Bulkhead bulkhead = bulkheads.get(requestClass);
+    if (!acquire(bulkhead)) {
+      rejections.get(requestClass).increment();
+      reject(request, response, properties.compartment(requestClass).getRetryAfterSeconds());
+      return;
+    }
+    long start = System.nanoTime();
+    boolean releaseOnCompletion = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseListener(bulkhead, start));
+        releaseOnCompletion = true;
+      }
+    } finally {
+      if (!releaseOnCompletion) {
+        bulkhead.release(System.nanoTime() - start);
+      }
+    }
+  }
+
+  private boolean acquire(Bulkhead bulkhead) {
+    try {
+      return bulkhead.tryAcquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response, int retryAfterSeconds) throws IOException {
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    ErrorResponseDto payload = ErrorResponseDto.builder()
+      .timestamp(DateTimeUtil.nowIso())
+      .status(status.value())
+      .error(status.getReasonPhrase())
+      .message("Servidor ocupado. Tente novamente em instantes.")
+      .path(request.getRequestURI())
+      .build();
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(response.getOutputStream(), payload);
+  }
+
+  private static class ReleaseListener implements AsyncListener {
+    private final Bulkhead bulkhead;
+    private final long start;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ReleaseListener(Bulkhead bulkhead, long start) {
+      this.bulkhead = bulkhead;
+      this.start = start;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        bulkhead.release(System.nanoTime() - start);
+      }
+    }
+  }
+}
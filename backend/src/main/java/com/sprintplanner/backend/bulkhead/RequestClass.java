@@ -0,0 +1,18 @@
+package com.sprintplanner.backend.bulkhead;
+
+public enum RequestClass {
+  LIGHT_READ("light-read"),
+  HEAVY_READ("heavy-read"),
+  WRITE("write"),
+  EXPORT("export");
+
+  private final String code;
+
+  RequestClass(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+}
@@ -0,0 +1,65 @@
+package com.sprintplanner.backend.bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+@Component
+public class RequestClassifier {
+  private static final List<String> EXPORT_PATHS = List.of(
+    "/sprints/*/report",
+    "/projects/*/report",
+    "/jobs/*/result"
+  );
+  private static final List<String> HEAVY_READ_GET_PATHS = List.of(
+    "/sprints/*",
+    "/sprints/*/timeline",
+    "/sprints/*/forecast",
+    "/sprints/*/workload",
+    "/sprints/*/burndown",
+    "/projects/*/forecast",
+    "/projects/*/dashboard",
+    "/tasks/search"
+  );
+  private static final List<String> HEAVY_READ_POST_PATHS = List.of(
+    "/sprints/batch-get",
+    "/sprints/*/auto-assign"
+  );
+
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  public RequestClass classify(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    String method = request.getMethod();
+    if (path.startsWith("/actuator") || "OPTIONS".equals(method) || isEventStream(request)) {
+      return null;
+    }
+    if ("GET".equals(method) || "HEAD".equals(method)) {
+      if (matches(EXPORT_PATHS, path)) {
+        return RequestClass.EXPORT;
+      }
+      return matches(HEAVY_READ_GET_PATHS, path) ? RequestClass.HEAVY_READ : RequestClass.LIGHT_READ;
+    }
+    if ("POST".equals(method) && matches(HEAVY_READ_POST_PATHS, path)) {
+      return RequestClass.HEAVY_READ;
+    }
+    return RequestClass.WRITE;
+  }
+
+  private boolean matches(List<String> patterns, String path) {
+    for (String pattern : patterns) {
+      if (pathMatcher.match(pattern, path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isEventStream(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+}
@@ -0,0 +1,166 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.BurndownDay;
+import com.sprintplanner.backend.domain.BurndownSeries;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskCompletion;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BurndownSeriesFactory {
+  private final CapacityCalculator capacityCalculator;
+
+  public BurndownSeriesFactory(CapacityCalculator capacityCalculator) {
+    this.capacityCalculator = capacityCalculator;
+  }
+
+  public BurndownSeries update(BurndownSeries previous, String sprintId, String projectId, RootPersistedState state, int today) {
+    Map<String, TaskCompletion> previousCompletions = new HashMap<>();
+    Map<String, BurndownDay> previousDays = new HashMap<>();
+    if (previous != null) {
+      for (TaskCompletion completion : safeList(previous.getCompletions())) {
+        previousCompletions.put(completion.getTaskId(), completion);
+      }
+      for (BurndownDay day : safeList(previous.getDays())) {
+        previousDays.put(day.getDate(), day);
+      }
+    }
+
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    List<TaskItem> tasks = state.getTasks() == null ? List.of() : safeList(state.getTasks().getItems());
+    Map<String, TaskCompletion> completions = new LinkedHashMap<>();
+    double totalStoryPoints = 0;
+    int totalTasks = 0;
+    for (int i = 0; i < tasks.size(); i++) {
+      TaskItem task = tasks.get(i);
+      if (task == null || task.getId() == null) {
+        continue;
+      }
+      totalStoryPoints += task.getStoryPoints();
+      totalTasks++;
+      if (!"done".equals(task.getStatus())) {
+        continue;
+      }
+      TaskCompletion known = previousCompletions.get(task.getId());
+      int completedDay = dates.taskCompletedDay(i);
+      String day;
+      if (EpochDays.isPresent(completedDay)) {
+        day = EpochDays.format(completedDay);
+      } else if (known != null) {
+        day = known.getDay();
+      } else {
+        day = EpochDays.format(today);
+      }
+      completions.put(task.getId(), TaskCompletion.builder()
+        .taskId(task.getId())
+        .day(day)
+        .storyPoints(task.getStoryPoints())
+        .build());
+    }
+
+    BurndownSeries series = BurndownSeries.builder()
+      .sprintId(sprintId)
+      .projectId(projectId)
+      .startDate(EpochDays.format(dates.sprintStart()))
+      .endDate(EpochDays.format(dates.sprintEnd()))
+      .totalStoryPoints(totalStoryPoints)
+      .totalTasks(totalTasks)
+      .completions(new ArrayList<>(completions.values()))
+      .days(new ArrayList<>())
+      .updatedAt(DateTimeUtil.now())
+      .build();
+    int start = dates.sprintStart();
+    int end = dates.sprintEnd();
+    if (!EpochDays.isPresent(start) || !EpochDays.isPresent(end) || start > end) {
+      return series;
+    }
+
+    Set<String> workingDays = new HashSet<>(capacityCalculator.workingDays(state.getSprint(), state.getCalendar()));
+    List<BurndownDay> days = new ArrayList<>(end - start + 1);
+    for (int day = start; day <= end; day++) {
+      String iso = EpochDays.format(day);
+      BurndownDay known = previousDays.get(iso);
+      days.add(BurndownDay.builder()
+        .date(iso)
+        .workingDay(workingDays.contains(iso))
+        .scopeStoryPoints(known == null ? null : known.getScopeStoryPoints())
+        .scopeTasks(known == null ? null : known.getScopeTasks())
+        .build());
+    }
+    BurndownDay todayBucket = days.get(clamp(today, start, end) - start);
+    todayBucket.setScopeStoryPoints(totalStoryPoints);
+    todayBucket.setScopeTasks(totalTasks);
+
+    for (TaskCompletion completion : completions.values()) {
+      int day = EpochDays.parseIsoDate(completion.getDay());
+      if (!EpochDays.isPresent(day)) {
+        continue;
+      }
+      BurndownDay bucket = days.get(clamp(day, start, end) - start);
+      bucket.setCompletedStoryPoints(bucket.getCompletedStoryPoints() + completion.getStoryPoints());
+      bucket.setCompletedTasks(bucket.getCompletedTasks() + 1);
+    }
+
+    accumulate(days);
+    series.setDays(days);
+    return series;
+  }
+
+  private void accumulate(List<BurndownDay> days) {
+    BurndownDay firstScoped = null;
+    int totalWorkingDays = 0;
+    for (BurndownDay day : days) {
+      if (firstScoped == null && day.getScopeStoryPoints() != null) {
+        firstScoped = day;
+      }
+      if (day.isWorkingDay()) {
+        totalWorkingDays++;
+      }
+    }
+    double scopeStoryPoints = firstScoped == null ? 0 : firstScoped.getScopeStoryPoints();
+    int scopeTasks = firstScoped == null || firstScoped.getScopeTasks() == null ? 0 : firstScoped.getScopeTasks();
+    double committed = scopeStoryPoints;
+    double burnedStoryPoints = 0;
+    int burnedTasks = 0;
+    int workedDays = 0;
+    for (BurndownDay day : days) {
+      if (day.getScopeStoryPoints() != null) {
+        scopeStoryPoints = day.getScopeStoryPoints();
+      }
+      if (day.getScopeTasks() != null) {
+        scopeTasks = day.getScopeTasks();
+      }
+      if (day.isWorkingDay()) {
+        workedDays++;
+      }
+      burnedStoryPoints += day.getCompletedStoryPoints();
+      burnedTasks += day.getCompletedTasks();
+      day.setBurnedStoryPoints(burnedStoryPoints);
+      day.setBurnedTasks(burnedTasks);
+      day.setRemainingStoryPoints(Math.max(0, scopeStoryPoints - burnedStoryPoints));
+      day.setRemainingTasks(Math.max(0, scopeTasks - burnedTasks));
+      day.setIdealRemainingStoryPoints(totalWorkingDays == 0
+        ? 0
+        : committed * (1 - workedDays / (double) totalWorkingDays));
+    }
+  }
+
+  private int clamp(int day, int start, int end) {
+    return Math.max(start, Math.min(end, day));
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -0,0 +1,172 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.SprintState;
+import com.sprintplanner.backend.domain.WorkingPeriod;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CapacityCalculator {
+  public List<String> workingDays(SprintState sprint, CalendarState calendar) {
+    List<DaySchedule> schedules = calendar == null ? null : calendar.getDaySchedules();
+    if (schedules != null && !schedules.isEmpty()) {
+      List<String> workingDays = new ArrayList<>();
+      for (DaySchedule day : schedules) {
+        if (day != null && !day.isNonWorking() && periodsMinutes(day.getPeriods()) > 0) {
+          workingDays.add(day.getDate());
+        }
+      }
+      return workingDays;
+    }
+
+    LocalDate start = parseDate(sprint == null ? null : sprint.getStartDate());
+    LocalDate end = parseDate(sprint == null ? null : sprint.getEndDate());
+    if (start == null || end == null) {
+      return List.of();
+    }
+    Set<String> manual = new HashSet<>(safeList(calendar == null ? null : calendar.getNonWorkingDaysManual()));
+    Set<String> removed = new HashSet<>(safeList(calendar == null ? null : calendar.getNonWorkingDaysRemoved()));
+    List<String> workingDays = new ArrayList<>();
+    for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+      String iso = day.toString();
+      if (manual.contains(iso)) {
+        continue;
+      }
+      if (isWeekend(day) && !removed.contains(iso)) {
+        continue;
+      }
+      workingDays.add(iso);
+    }
+    return workingDays;
+  }
+
+  public double workingHours(GlobalConfig config, List<String> workingDays, List<EventItem> events, CalendarState calendar) {
+    if (workingDays.isEmpty()) {
+      return 0;
+    }
+    List<DaySchedule> schedules = calendar == null ? null : calendar.getDaySchedules();
+    double baseHours;
+    if (schedules != null && !schedules.isEmpty()) {
+      Set<String> workingSet = new HashSet<>(workingDays);
+      int minutes = 0;
+      for (DaySchedule day : schedules) {
+        if (day != null && workingSet.contains(day.getDate())) {
+          minutes += periodsMinutes(day.getPeriods());
+        }
+      }
+      baseHours = minutes / 60.0;
+    } else {
+      baseHours = workingDays.size() * (double) (config == null ? 0 : config.getDailyWorkHours());
+    }
+    return Math.max(0, baseHours - eventDeductionHours(events, workingDays));
+  }
+
+  public double eventDeductionHours(List<EventItem> events, List<String> workingDays) {
+    if (workingDays.isEmpty()) {
+      return 0;
+    }
+    Set<String> workingSet = new HashSet<>(workingDays);
+    double hours = 0;
+    for (EventItem event : safeList(events)) {
+      if (event == null) {
+        continue;
+      }
+      if (event.isRecurringDaily()) {
+        hours += event.getMinutes() / 60.0 * workingDays.size();
+      } else if (workingSet.contains(event.getDate())) {
+        hours += event.getMinutes() / 60.0;
+      }
+    }
+    return hours;
+  }
+
+  public boolean isCounted(Member member, GlobalConfig config) {
+    return member != null
+      && config != null
+      && config.getCountedMemberTypes() != null
+      && config.getCountedMemberTypes().contains(member.getRoleType());
+  }
+
+  public double memberFactor(Member member, GlobalConfig config) {
+    double seniorityFactor = factor(config == null ? null : config.getSeniorityFactors(), member.getSeniority());
+    double maturityFactor = factor(config == null ? null : config.getMaturityFactors(), member.getMaturity());
+    return (member.getAvailabilityPercent() / 100) * seniorityFactor * maturityFactor;
+  }
+
+  public double memberCapacityHours(Member member, double workingHours, GlobalConfig config) {
+    if (!isCounted(member, config)) {
+      return 0;
+    }
+    return workingHours * memberFactor(member, config);
+  }
+
+  public long storyPoints(double hours, GlobalConfig config) {
+    return Math.round(hours * (config == null ? 0 : config.getStoryPointsPerHour()));
+  }
+
+  public int periodsMinutes(List<WorkingPeriod> periods) {
+    int total = 0;
+    for (WorkingPeriod period : safeList(periods)) {
+      if (period == null) {
+        continue;
+      }
+      total += Math.max(0, timeToMinutes(period.getEnd()) - timeToMinutes(period.getStart()));
+    }
+    return total;
+  }
+
+  public int timeToMinutes(String time) {
+    if (time == null) {
+      return 0;
+    }
+    String trimmed = time.trim();
+    if (trimmed.length() != 5 || trimmed.charAt(2) != ':') {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(trimmed.substring(0, 2)) * 60 + Integer.parseInt(trimmed.substring(3, 5));
+    } catch (NumberFormatException ex) {
+      return 0;
+    }
+  }
+
+  public boolean isWeekend(LocalDate day) {
+    DayOfWeek dayOfWeek = day.getDayOfWeek();
+    return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+  }
+
+  public LocalDate parseDate(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException ex) {
+      return null;
+    }
+  }
+
+  private double factor(Map<String, Double> factors, String key) {
+    if (factors == null || key == null) {
+      return 1;
+    }
+    Double value = factors.get(key);
+    return value == null ? 1 : value;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -4,9 +4,13 @@ import com.sprintplanner.backend.domain.CalendarState;
 import com.sprintplanner.backend.domain.ConfigState;
 import com.sprintplanner.backend.domain.EventsState;
 import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Maturity;
 import com.sprintplanner.backend.domain.MembersState;
 import com.sprintplanner.backend.domain.PlanningLifecycleState;
+import com.sprintplanner.backend.domain.PlanningStatus;
 import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SchedulingStrategy;
+import com.sprintplanner.backend.domain.Seniority;
 import com.sprintplanner.backend.domain.SprintState;
 import com.sprintplanner.backend.domain.TasksState;
 import com.sprintplanner.backend.domain.WorkingPeriod;
@@ -45,8 +49,8 @@ public class DefaultStateFactory {
 
     GlobalConfig config = GlobalConfig.builder()
       .dailyWorkHours(8)
-      .seniorityFactors(Map.of("Sênior", 1.0, "Pleno", 0.8, "Júnior", 0.6))
-      .maturityFactors(Map.of("Plena", 1.0, "Mediana", 0.8, "Inicial", 0.6))
+      .seniorityFactors(Map.of(Seniority.SENIOR.code(), 1.0, Seniority.MID.code(), 0.8, Seniority.JUNIOR.code(), 0.6))
+      .maturityFactors(Map.of(Maturity.FULL.code(), 1.0, Maturity.MEDIUM.code(), 0.8, Maturity.INITIAL.code(), 0.6))
       .storyPointsPerHour(0.33)
       .countedMemberTypes(List.of("Desenvolvedor"))
       .storyPointScale(List.of(0, 1, 2, 3, 5, 8, 13))
@@ -56,7 +60,7 @@ public class DefaultStateFactory {
         WorkingPeriod.builder().start("08:00").end("12:00").build(),
         WorkingPeriod.builder().start("13:00").end("17:00").build()
       ))
-      .schedulingStrategy("EDD")
+      .schedulingStrategy(SchedulingStrategy.EDD.code())
       .build();
 
     ConfigState configState = ConfigState.builder()
@@ -64,7 +68,7 @@ public class DefaultStateFactory {
       .build();
 
     PlanningLifecycleState planningLifecycleState = PlanningLifecycleState.builder()
-      .status("editing")
+      .status(PlanningStatus.EDITING.code())
       .closedAt(null)
       .build();
 
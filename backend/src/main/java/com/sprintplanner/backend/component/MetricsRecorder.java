@@ -0,0 +1,90 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskItem;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MetricsRecorder {
+  private final MeterRegistry meterRegistry;
+  private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+  public MetricsRecorder(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> T timeStage(String operation, String stage, Supplier<T> action) {
+    return stageTimer(operation, stage).record(action);
+  }
+
+  public void timeStage(String operation, String stage, Runnable action) {
+    stageTimer(operation, stage).record(action);
+  }
+
+  public Timer operationTimer(String component, String method, boolean success) {
+    String outcome = success ? "success" : "error";
+    return timers.computeIfAbsent(List.of("operation", component, method, outcome), key -> Timer.builder("sprintplanner.operation")
+      .tag("component", component)
+      .tag("method", method)
+      .tag("outcome", outcome)
+      .register(meterRegistry));
+  }
+
+  public void recordStatePayload(String operation, RootPersistedState state) {
+    if (state == null) {
+      return;
+    }
+    List<TaskItem> tasks = state.getTasks() == null ? null : state.getTasks().getItems();
+    List<Member> members = state.getMembers() == null ? null : state.getMembers().getItems();
+    int segments = 0;
+    if (tasks != null) {
+      for (TaskItem task : tasks) {
+        if (task != null && task.getComputedTimeline() != null) {
+          segments += task.getComputedTimeline().size();
+        }
+      }
+    }
+    recordCount(operation, "tasks", size(tasks));
+    recordCount(operation, "members", size(members));
+    recordCount(operation, "events", size(state.getEvents() == null ? null : state.getEvents().getItems()));
+    recordCount(operation, "segments", segments);
+  }
+
+  public void recordStateBytes(String operation, long bytes) {
+    if (bytes < 0) {
+      return;
+    }
+    DistributionSummary.builder("sprintplanner.state.bytes")
+      .baseUnit("bytes")
+      .tag("operation", operation)
+      .register(meterRegistry)
+      .record(bytes);
+  }
+
+  private void recordCount(String operation, String section, int count) {
+    DistributionSummary.builder("sprintplanner.state.items")
+      .tag("operation", operation)
+      .tag("section", section)
+      .register(meterRegistry)
+      .record(count);
+  }
+
+  private Timer stageTimer(String operation, String stage) {
+    return timers.computeIfAbsent(List.of("stage", operation, stage), key -> Timer.builder("sprintplanner.stage")
+      .tag("operation", operation)
+      .tag("stage", stage)
+      .register(meterRegistry));
+  }
+
+  private int size(List<?> list) {
+    return list == null ? 0 : list.size();
+  }
+}
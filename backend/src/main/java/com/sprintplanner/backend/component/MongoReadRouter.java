@@ -0,0 +1,97 @@
+package com.sprintplanner.backend.component;
+
+import com.mongodb.ReadPreference;
+import com.sprintplanner.backend.config.ReadRoutingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MongoReadRouter {
+  private static final long MIN_MAX_STALENESS_SECONDS = 90;
+  private static final String ALL_PROJECTS = "*";
+
+  private final MongoTemplate primary;
+  private final MongoTemplate secondary;
+  private final long windowNanos;
+  private final int maxTrackedProjects;
+  private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+  private final Counter primaryReads;
+  private final Counter secondaryReads;
+
+  public MongoReadRouter(
+    MongoTemplate mongoTemplate,
+    MongoDatabaseFactory mongoDatabaseFactory,
+    ApplicationContext applicationContext,
+    ReadRoutingProperties properties,
+    MeterRegistry meterRegistry
+  ) {
+    if (properties.getMaxStalenessSeconds() < MIN_MAX_STALENESS_SECONDS) {
+      throw new IllegalStateException("sprintplanner.read-routing.max-staleness-seconds deve ser de pelo menos "
+        + MIN_MAX_STALENESS_SECONDS + " segundos.");
+    }
+    this.primary = mongoTemplate;
+    this.secondary = properties.isEnabled()
+      ? secondaryTemplate(mongoTemplate, mongoDatabaseFactory, applicationContext, properties.getMaxStalenessSeconds())
+      : mongoTemplate;
+    this.windowNanos = TimeUnit.SECONDS.toNanos(properties.getMaxStalenessSeconds());
+    this.maxTrackedProjects = Math.max(1, properties.getMaxTrackedProjects());
+    this.primaryReads = Counter.builder("sprintplanner.mongo.routed.reads").tag("target", "primary").register(meterRegistry);
+    this.secondaryReads = Counter.builder("sprintplanner.mongo.routed.reads").tag("target", "secondary").register(meterRegistry);
+  }
+
+  public MongoTemplate forProject(String projectId) {
+    return route(projectId == null || projectId.isBlank() ? ALL_PROJECTS : projectId);
+  }
+
+  public MongoTemplate forProjects() {
+    return route(ALL_PROJECTS);
+  }
+
+  public void recordWrite(String projectId) {
+    if (primary == secondary || projectId == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (recentWrites.size() >= maxTrackedProjects) {
+      recentWrites.values().removeIf(written -> now - written >= windowNanos);
+    }
+    recentWrites.put(projectId, now);
+  }
+
+  public void recordProjectWrite(String projectId) {
+    recordWrite(projectId);
+    recordWrite(ALL_PROJECTS);
+  }
+
+  private MongoTemplate route(String key) {
+    if (primary == secondary) {
+      return primary;
+    }
+    Long written = recentWrites.get(key);
+    if (written != null && System.nanoTime() - written < windowNanos) {
+      primaryReads.increment();
+      return primary;
+    }
+    secondaryReads.increment();
+    return secondary;
+  }
+
+  private static MongoTemplate secondaryTemplate(
+    MongoTemplate mongoTemplate,
+    MongoDatabaseFactory mongoDatabaseFactory,
+    ApplicationContext applicationContext,
+    long maxStalenessSeconds
+  ) {
+    MongoTemplate template = new MongoTemplate(mongoDatabaseFactory, mongoTemplate.getConverter());
+    template.setReadPreference(ReadPreference.secondaryPreferred(maxStalenessSeconds, TimeUnit.SECONDS));
+    template.setApplicationContext(applicationContext);
+    return template;
+  }
+}
@@ -0,0 +1,33 @@
+package com.sprintplanner.backend.component;
+
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class OperationTimingAspect {
+  private final MetricsRecorder metricsRecorder;
+
+  public OperationTimingAspect(MetricsRecorder metricsRecorder) {
+    this.metricsRecorder = metricsRecorder;
+  }
+
+  @Around("within(@org.springframework.web.bind.annotation.RestController *) && execution(public * *(..))")
+  public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+    String component = joinPoint.getSignature().getDeclaringType().getSimpleName();
+    String method = joinPoint.getSignature().getName();
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      Object result = joinPoint.proceed();
+      success = true;
+      return result;
+    } finally {
+      metricsRecorder.operationTimer(component, method, success)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+}
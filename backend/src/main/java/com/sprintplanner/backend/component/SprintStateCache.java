@@ -0,0 +1,205 @@
+package com.sprintplanner.backend.component;
+
+import com.mongodb.MongoClientSettings;
+import com.sprintplanner.backend.config.StateCacheProperties;
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.ConfigState;
+import com.sprintplanner.backend.domain.EventsState;
+import com.sprintplanner.backend.domain.MembersState;
+import com.sprintplanner.backend.domain.PlanningLifecycleState;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintState;
+import com.sprintplanner.backend.domain.StateSection;
+import com.sprintplanner.backend.domain.TasksState;
+import com.sprintplanner.backend.util.OffHeapPagePool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SprintStateCache {
+  private static final StateSection[] SECTIONS = StateSection.values();
+
+  private final MongoConverter mongoConverter;
+  private final StateInterner stateInterner;
+  private final boolean enabled;
+  private final OffHeapPagePool pool;
+  private final Codec<Document> documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Counter hits;
+  private final Counter misses;
+
+  public SprintStateCache(
+    MongoConverter mongoConverter,
+    StateInterner stateInterner,
+    StateCacheProperties properties,
+    MeterRegistry meterRegistry
+  ) {
+    this.mongoConverter = mongoConverter;
+    this.stateInterner = stateInterner;
+    this.enabled = properties.isEnabled();
+    this.pool = new OffHeapPagePool(properties.getPageBytes(), properties.getSlabBytes(), properties.getMaxBytes());
+    this.hits = Counter.builder("sprintplanner.state.cache.lookups").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("sprintplanner.state.cache.lookups").tag("result", "miss").register(meterRegistry);
+    Gauge.builder("sprintplanner.state.cache.entries", this, SprintStateCache::size).register(meterRegistry);
+    Gauge.builder("sprintplanner.state.cache.bytes", this, SprintStateCache::usedBytes)
+      .baseUnit("bytes")
+      .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public RootPersistedState get(String sprintId, String version, Collection<StateSection> sections) {
+    if (!enabled || sprintId == null) {
+      return null;
+    }
+    byte[][] encoded = read(sprintId, version, sections);
+    if (encoded == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    RootPersistedState state = new RootPersistedState();
+    for (StateSection section : SECTIONS) {
+      byte[] bytes = encoded[section.ordinal()];
+      if (bytes != null && bytes.length > 0) {
+        setSection(state, section, decode(bytes));
+      }
+    }
+    return stateInterner.intern(state);
+  }
+
+  public boolean put(String sprintId, String version, RootPersistedState state) {
+    if (!enabled || sprintId == null || state == null) {
+      return false;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int[] offsets = new int[SECTIONS.length + 1];
+    for (StateSection section : SECTIONS) {
+      offsets[section.ordinal()] = out.size();
+      Object value = getSection(state, section);
+      if (value != null) {
+        out.writeBytes(encode(value));
+      }
+    }
+    offsets[SECTIONS.length] = out.size();
+    return write(sprintId, new Entry(version, offsets), out.toByteArray());
+  }
+
+  public synchronized void evict(String sprintId) {
+    Entry entry = entries.remove(sprintId);
+    if (entry != null) {
+      pool.free(entry.pages);
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long usedBytes() {
+    return (long) pool.usedPages() * pool.pageBytes();
+  }
+
+  private synchronized byte[][] read(String sprintId, String version, Collection<StateSection> sections) {
+    Entry entry = entries.get(sprintId);
+    if (entry == null || !Objects.equals(entry.version, version)) {
+      return null;
+    }
+    byte[][] encoded = new byte[SECTIONS.length][];
+    for (StateSection section : SECTIONS) {
+      if (sections.isEmpty() || sections.contains(section)) {
+        int start = entry.offsets[section.ordinal()];
+        int end = entry.offsets[section.ordinal() + 1];
+        encoded[section.ordinal()] = pool.read(entry.pages, start, end - start);
+      }
+    }
+    return encoded;
+  }
+
+  private synchronized boolean write(String sprintId, Entry entry, byte[] data) {
+    evict(sprintId);
+    if (pool.pagesFor(data.length) > pool.maxPages()) {
+      return false;
+    }
+    int[] pages = pool.allocate(data.length);
+    Iterator<Entry> eldest = entries.values().iterator();
+    while (pages == null && eldest.hasNext()) {
+      pool.free(eldest.next().pages);
+      eldest.remove();
+      pages = pool.allocate(data.length);
+    }
+    if (pages == null) {
+      return false;
+    }
+    pool.write(pages, data);
+    entry.pages = pages;
+    entries.put(sprintId, entry);
+    return true;
+  }
+
+  private byte[] encode(Object value) {
+    Document document = new Document();
+    mongoConverter.write(value, document);
+    BasicOutputBuffer buffer = new BasicOutputBuffer();
+    documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+    return buffer.toByteArray();
+  }
+
+  private Document decode(byte[] bytes) {
+    return documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build());
+  }
+
+  private Object getSection(RootPersistedState state, StateSection section) {
+    return switch (section) {
+      case SPRINT -> state.getSprint();
+      case CALENDAR -> state.getCalendar();
+      case EVENTS -> state.getEvents();
+      case MEMBERS -> state.getMembers();
+      case TASKS -> state.getTasks();
+      case CONFIG -> state.getConfig();
+      case PLANNING_LIFECYCLE -> state.getPlanningLifecycle();
+    };
+  }
+
+  private void setSection(RootPersistedState state, StateSection section, Document document) {
+    switch (section) {
+      case SPRINT -> state.setSprint(mongoConverter.read(SprintState.class, document));
+      case CALENDAR -> state.setCalendar(mongoConverter.read(CalendarState.class, document));
+      case EVENTS -> state.setEvents(mongoConverter.read(EventsState.class, document));
+      case MEMBERS -> state.setMembers(mongoConverter.read(MembersState.class, document));
+      case TASKS -> state.setTasks(mongoConverter.read(TasksState.class, document));
+      case CONFIG -> state.setConfig(mongoConverter.read(ConfigState.class, document));
+      case PLANNING_LIFECYCLE -> state.setPlanningLifecycle(mongoConverter.read(PlanningLifecycleState.class, document));
+    }
+  }
+
+  private static final class Entry {
+    private final String version;
+    private final int[] offsets;
+    private int[] pages;
+
+    private Entry(String version, int[] offsets) {
+      this.version = version;
+      this.offsets = offsets;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.PlanningLifecycleState;
+import com.sprintplanner.backend.domain.PlanningStatus;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintState;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskStatus;
+import com.sprintplanner.backend.domain.TasksState;
+import com.sprintplanner.backend.parser.StateParser;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SprintStateCloner {
+  private final StateParser stateParser;
+
+  public SprintStateCloner(StateParser stateParser) {
+    this.stateParser = stateParser;
+  }
+
+  public RootPersistedState copy(RootPersistedState source, String title, int startDay, boolean includeUnfinishedTasks) {
+    RootPersistedState copy = stateParser.toDomain(stateParser.toDto(source));
+    SprintState sprint = copy.getSprint() == null
+      ? SprintState.builder().startDate("").endDate("").build()
+      : copy.getSprint();
+    int sourceStart = EpochDays.parseIsoDate(sprint.getStartDate());
+    int shift = EpochDays.isPresent(sourceStart) && EpochDays.isPresent(startDay) ? startDay - sourceStart : 0;
+    if (title != null && !title.isBlank()) {
+      sprint.setTitle(title.trim());
+    }
+    sprint.setStartDate(shiftDate(sprint.getStartDate(), shift));
+    sprint.setEndDate(shiftDate(sprint.getEndDate(), shift));
+    copy.setSprint(sprint);
+    copy.setCalendar(shiftCalendar(copy.getCalendar(), shift));
+    if (copy.getEvents() != null) {
+      for (EventItem event : safeList(copy.getEvents().getItems())) {
+        if (event != null) {
+          event.setDate(shiftDate(event.getDate(), shift));
+        }
+      }
+    }
+    copy.setTasks(TasksState.builder()
+      .items(includeUnfinishedTasks ? unfinishedTasks(copy.getTasks(), shift) : new ArrayList<>())
+      .build());
+    copy.setPlanningLifecycle(PlanningLifecycleState.builder()
+      .status(PlanningStatus.EDITING.code())
+      .closedAt(null)
+      .build());
+    copy.setDateIndex(SprintDateIndex.build(copy));
+    return copy;
+  }
+
+  public boolean hasStartDate(RootPersistedState source) {
+    String startDate = source == null || source.getSprint() == null ? null : source.getSprint().getStartDate();
+    return EpochDays.isPresent(EpochDays.parseIsoDate(startDate));
+  }
+
+  public int nextStartDay(RootPersistedState source) {
+    String endDate = source == null || source.getSprint() == null ? null : source.getSprint().getEndDate();
+    int end = EpochDays.parseIsoDate(endDate);
+    return EpochDays.isPresent(end) ? EpochDays.nextWeekday(end + 1) : EpochDays.NONE;
+  }
+
+  public int durationDays(RootPersistedState state) {
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    if (!EpochDays.isPresent(dates.sprintStart()) || !EpochDays.isPresent(dates.sprintEnd())) {
+      return 0;
+    }
+    return Math.max(0, dates.sprintEnd() - dates.sprintStart() + 1);
+  }
+
+  private CalendarState shiftCalendar(CalendarState calendar, int shift) {
+    if (calendar == null) {
+      return CalendarState.builder()
+        .nonWorkingDaysManual(new ArrayList<>())
+        .nonWorkingDaysRemoved(new ArrayList<>())
+        .daySchedules(new ArrayList<>())
+        .build();
+    }
+    List<String> manual = shiftDates(calendar.getNonWorkingDaysManual(), shift);
+    List<String> removed = shiftDates(calendar.getNonWorkingDaysRemoved(), shift);
+    Set<String> manualSet = new HashSet<>(manual);
+    Set<String> removedSet = new HashSet<>(removed);
+    List<DaySchedule> schedules = new ArrayList<>();
+    for (DaySchedule day : safeList(calendar.getDaySchedules())) {
+      int date = day == null ? EpochDays.NONE : EpochDays.parseIsoDate(day.getDate());
+      if (!EpochDays.isPresent(date)) {
+        continue;
+      }
+      String iso = EpochDays.format(date + shift);
+      schedules.add(DaySchedule.builder()
+        .date(iso)
+        .isNonWorking(manualSet.contains(iso) || (EpochDays.isWeekend(date + shift) && !removedSet.contains(iso)))
+        .periods(day.getPeriods() == null ? new ArrayList<>() : day.getPeriods())
+        .build());
+    }
+    return CalendarState.builder()
+      .nonWorkingDaysManual(manual)
+      .nonWorkingDaysRemoved(removed)
+      .daySchedules(schedules)
+      .build();
+  }
+
+  private List<TaskItem> unfinishedTasks(TasksState tasks, int shift) {
+    List<TaskItem> kept = new ArrayList<>();
+    Set<String> keptIds = new HashSet<>();
+    for (TaskItem task : tasks == null ? List.<TaskItem>of() : safeList(tasks.getItems())) {
+      if (task == null || TaskStatus.from(task.getStatus()) == TaskStatus.DONE) {
+        continue;
+      }
+      task.setDueDate(shiftDate(task.getDueDate(), shift));
+      task.setCompletedAt(null);
+      task.setComputedStartDate(null);
+      task.setComputedEndDate(null);
+      task.setComputedTimeline(new ArrayList<>());
+      kept.add(task);
+      if (task.getId() != null) {
+        keptIds.add(task.getId());
+      }
+    }
+    for (TaskItem task : kept) {
+      if (task.getDependencies() != null) {
+        task.setDependencies(new ArrayList<>(task.getDependencies().stream()
+          .filter(keptIds::contains)
+          .toList()));
+      }
+    }
+    return kept;
+  }
+
+  private List<String> shiftDates(List<String> dates, int shift) {
+    List<String> shifted = new ArrayList<>();
+    for (String date : safeList(dates)) {
+      shifted.add(shiftDate(date, shift));
+    }
+    return shifted;
+  }
+
+  private String shiftDate(String value, int shift) {
+    int day = EpochDays.parseIsoDate(value);
+    return EpochDays.isPresent(day) && shift != 0 ? EpochDays.format(day + shift) : value;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -0,0 +1,113 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.MemberSummary;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintSummary;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SprintSummaryFactory {
+  private final CapacityCalculator capacityCalculator;
+
+  public SprintSummaryFactory(CapacityCalculator capacityCalculator) {
+    this.capacityCalculator = capacityCalculator;
+  }
+
+  public SprintSummary build(RootPersistedState state) {
+    if (state == null) {
+      return null;
+    }
+    GlobalConfig config = state.getConfig() == null ? null : state.getConfig().getValue();
+    CalendarState calendar = state.getCalendar();
+    List<EventItem> events = state.getEvents() == null ? List.of() : safeList(state.getEvents().getItems());
+    List<Member> members = state.getMembers() == null ? List.of() : safeList(state.getMembers().getItems());
+    List<TaskItem> tasks = state.getTasks() == null ? List.of() : safeList(state.getTasks().getItems());
+
+    List<String> workingDays = capacityCalculator.workingDays(state.getSprint(), calendar);
+    double workingHours = capacityCalculator.workingHours(config, workingDays, events, calendar);
+
+    SprintSummary summary = SprintSummary.builder()
+      .memberCount(members.size())
+      .eventCount(events.size())
+      .workingDays(workingDays.size())
+      .build();
+
+    Map<String, MemberSummary> memberSummaries = new LinkedHashMap<>();
+    double teamHours = 0;
+    for (Member member : members) {
+      if (member == null || member.getName() == null) {
+        continue;
+      }
+      double hours = capacityCalculator.memberCapacityHours(member, workingHours, config);
+      long storyPoints = capacityCalculator.storyPoints(hours, config);
+      teamHours += hours;
+      summary.setTeamCapacityStoryPoints(summary.getTeamCapacityStoryPoints() + storyPoints);
+      memberSummaries.put(member.getName(), MemberSummary.builder()
+        .name(member.getName())
+        .roleType(member.getRoleType())
+        .capacityMinutes((int) Math.round(hours * 60))
+        .capacityStoryPoints(storyPoints)
+        .build());
+    }
+    summary.setTeamCapacityMinutes((int) Math.round(teamHours * 60));
+
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    Map<String, Integer> countByStatus = new TreeMap<>();
+    int finishDay = EpochDays.NONE;
+    for (int i = 0; i < tasks.size(); i++) {
+      TaskItem task = tasks.get(i);
+      if (task == null) {
+        continue;
+      }
+      String status = task.getStatus() == null || task.getStatus().isBlank() ? "todo" : task.getStatus();
+      boolean done = "done".equals(status);
+      double storyPoints = task.getStoryPoints();
+      countByStatus.merge(status, 1, Integer::sum);
+      summary.setTaskCount(summary.getTaskCount() + 1);
+      summary.setTotalStoryPoints(summary.getTotalStoryPoints() + storyPoints);
+      if (done) {
+        summary.setCompletedStoryPoints(summary.getCompletedStoryPoints() + storyPoints);
+      }
+
+      int computedEnd = dates.taskComputedEndDay(i);
+      if (EpochDays.isPresent(computedEnd) && (finishDay == EpochDays.NONE || computedEnd > finishDay)) {
+        finishDay = computedEnd;
+      }
+      int dueDay = dates.taskDueDay(i);
+      if (!done && EpochDays.isPresent(dueDay) && EpochDays.isPresent(computedEnd) && computedEnd > dueDay) {
+        summary.setOverdueTaskCount(summary.getOverdueTaskCount() + 1);
+      }
+
+      MemberSummary assignee = task.getAssigneeMemberName() == null
+        ? null
+        : memberSummaries.get(task.getAssigneeMemberName());
+      if (assignee != null) {
+        assignee.setTaskCount(assignee.getTaskCount() + 1);
+        assignee.setStoryPoints(assignee.getStoryPoints() + storyPoints);
+        if (done) {
+          assignee.setCompletedStoryPoints(assignee.getCompletedStoryPoints() + storyPoints);
+        }
+      }
+    }
+    summary.setTaskCountByStatus(countByStatus);
+    summary.setComputedFinishDate(EpochDays.format(finishDay));
+    summary.setMembers(new ArrayList<>(memberSummaries.values()));
+    return summary;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
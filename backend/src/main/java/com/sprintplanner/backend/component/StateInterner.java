@@ -0,0 +1,197 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.CompactDaySchedules;
+import com.sprintplanner.backend.domain.DayPeriodsOverride;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.EventType;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Maturity;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.MemberEvent;
+import com.sprintplanner.backend.domain.PlanningStatus;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SchedulingStrategy;
+import com.sprintplanner.backend.domain.Seniority;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskStatus;
+import com.sprintplanner.backend.domain.TaskWorkDetail;
+import com.sprintplanner.backend.domain.TaskWorkEvent;
+import com.sprintplanner.backend.domain.TaskWorkSegment;
+import com.sprintplanner.backend.domain.WorkingPeriod;
+import com.sprintplanner.backend.util.StringPool;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StateInterner {
+  private static final int POOL_SIZE = 65536;
+  private static final int MAX_POOLED_LENGTH = 64;
+
+  private final StringPool pool = new StringPool(POOL_SIZE, MAX_POOLED_LENGTH);
+
+  public RootPersistedState intern(RootPersistedState state) {
+    if (state == null) {
+      return null;
+    }
+    Map<String, String> local = new HashMap<>();
+    UnaryOperator<String> localIds = value -> value == null ? null : local.computeIfAbsent(value, key -> key);
+    if (state.getSprint() != null) {
+      state.getSprint().setStartDate(pool.intern(state.getSprint().getStartDate()));
+      state.getSprint().setEndDate(pool.intern(state.getSprint().getEndDate()));
+    }
+    internCalendar(state.getCalendar());
+    if (state.getEvents() != null) {
+      for (EventItem event : safeList(state.getEvents().getItems())) {
+        if (event != null) {
+          event.setId(localIds.apply(event.getId()));
+          event.setType(pool.intern(EventType.canonical(event.getType())));
+          event.setDate(pool.intern(event.getDate()));
+        }
+      }
+    }
+    if (state.getMembers() != null) {
+      for (Member member : safeList(state.getMembers().getItems())) {
+        internMember(member, localIds);
+      }
+    }
+    if (state.getTasks() != null) {
+      for (TaskItem task : safeList(state.getTasks().getItems())) {
+        internTask(task, localIds);
+      }
+    }
+    if (state.getConfig() != null) {
+      internConfig(state.getConfig().getValue());
+    }
+    if (state.getPlanningLifecycle() != null) {
+      state.getPlanningLifecycle().setStatus(PlanningStatus.canonical(state.getPlanningLifecycle().getStatus()));
+    }
+    return state;
+  }
+
+  public String intern(String value) {
+    return pool.intern(value);
+  }
+
+  private void internCalendar(CalendarState calendar) {
+    if (calendar == null) {
+      return;
+    }
+    calendar.setNonWorkingDaysManual(internAll(calendar.getNonWorkingDaysManual(), pool::intern));
+    calendar.setNonWorkingDaysRemoved(internAll(calendar.getNonWorkingDaysRemoved(), pool::intern));
+    for (DaySchedule day : safeList(calendar.getDaySchedules())) {
+      if (day != null) {
+        day.setDate(pool.intern(day.getDate()));
+        internPeriods(day.getPeriods());
+      }
+    }
+    CompactDaySchedules compact = calendar.getCompactSchedules();
+    if (compact != null) {
+      compact.setStartDate(pool.intern(compact.getStartDate()));
+      internPeriods(compact.getDefaultPeriods());
+      for (DayPeriodsOverride override : safeList(compact.getOverrides())) {
+        if (override != null) {
+          internPeriods(override.getPeriods());
+        }
+      }
+    }
+  }
+
+  private void internMember(Member member, UnaryOperator<String> localIds) {
+    if (member == null) {
+      return;
+    }
+    member.setId(localIds.apply(member.getId()));
+    member.setName(pool.intern(member.getName()));
+    member.setRoleType(pool.intern(member.getRoleType()));
+    member.setSeniority(pool.intern(Seniority.canonical(member.getSeniority())));
+    member.setMaturity(pool.intern(Maturity.canonical(member.getMaturity())));
+    for (MemberEvent event : safeList(member.getAvailabilityEvents())) {
+      if (event != null) {
+        event.setId(localIds.apply(event.getId()));
+      }
+    }
+  }
+
+  private void internTask(TaskItem task, UnaryOperator<String> localIds) {
+    if (task == null) {
+      return;
+    }
+    task.setId(localIds.apply(task.getId()));
+    task.setDependencies(internAll(task.getDependencies(), localIds));
+    task.setAssigneeMemberName(pool.intern(task.getAssigneeMemberName()));
+    task.setStatus(TaskStatus.canonical(task.getStatus()));
+    task.setDueDate(pool.intern(task.getDueDate()));
+    task.setComputedStartDate(pool.intern(task.getComputedStartDate()));
+    task.setComputedEndDate(pool.intern(task.getComputedEndDate()));
+    for (TaskWorkSegment segment : safeList(task.getComputedTimeline())) {
+      if (segment == null) {
+        continue;
+      }
+      segment.setDate(pool.intern(segment.getDate()));
+      segment.setStartTime(pool.intern(segment.getStartTime()));
+      segment.setEndTime(pool.intern(segment.getEndTime()));
+      TaskWorkDetail detail = segment.getDetail();
+      if (detail != null) {
+        internPeriods(detail.getPeriods());
+        for (TaskWorkEvent event : safeList(detail.getEvents())) {
+          if (event != null) {
+            event.setLabel(pool.intern(event.getLabel()));
+          }
+        }
+      }
+    }
+  }
+
+  private void internConfig(GlobalConfig config) {
+    if (config == null) {
+      return;
+    }
+    config.setSeniorityFactors(internKeys(config.getSeniorityFactors(), Seniority::canonical));
+    config.setMaturityFactors(internKeys(config.getMaturityFactors(), Maturity::canonical));
+    config.setCountedMemberTypes(internAll(config.getCountedMemberTypes(), pool::intern));
+    config.setSchedulingStrategy(SchedulingStrategy.canonical(config.getSchedulingStrategy()));
+    internPeriods(config.getDefaultWorkingPeriods());
+  }
+
+  private void internPeriods(List<WorkingPeriod> periods) {
+    for (WorkingPeriod period : safeList(periods)) {
+      if (period != null) {
+        period.setStart(pool.intern(period.getStart()));
+        period.setEnd(pool.intern(period.getEnd()));
+      }
+    }
+  }
+
+  private List<String> internAll(List<String> values, UnaryOperator<String> interner) {
+    if (values == null) {
+      return null;
+    }
+    List<String> interned = new ArrayList<>(values.size());
+    for (String value : values) {
+      interned.add(interner.apply(value));
+    }
+    return interned;
+  }
+
+  private Map<String, Double> internKeys(Map<String, Double> values, UnaryOperator<String> canonical) {
+    if (values == null) {
+      return null;
+    }
+    Map<String, Double> interned = new LinkedHashMap<>();
+    for (Map.Entry<String, Double> entry : values.entrySet()) {
+      interned.put(pool.intern(canonical.apply(entry.getKey())), entry.getValue());
+    }
+    return interned;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -0,0 +1,59 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskIndexFactory {
+  private final CapacityCalculator capacityCalculator;
+
+  public TaskIndexFactory(CapacityCalculator capacityCalculator) {
+    this.capacityCalculator = capacityCalculator;
+  }
+
+  public List<TaskIndexEntry> build(SprintDocument sprint) {
+    RootPersistedState state = sprint == null ? null : sprint.getState();
+    if (state == null || state.getTasks() == null || state.getTasks().getItems() == null) {
+      return List.of();
+    }
+    List<TaskIndexEntry> entries = new ArrayList<>();
+    for (TaskItem task : state.getTasks().getItems()) {
+      if (task == null || task.getId() == null) {
+        continue;
+      }
+      String status = task.getStatus() == null || task.getStatus().isBlank() ? "todo" : task.getStatus();
+      LocalDate computedStart = DateTimeUtil.parseComputedDate(task.getComputedStartDate());
+      LocalDate computedEnd = DateTimeUtil.parseComputedDate(task.getComputedEndDate());
+      int completedDay = EpochDays.parseDatePrefix(task.getCompletedAt());
+      LocalDate dueDate = capacityCalculator.parseDate(task.getDueDate());
+      boolean late = !"done".equals(status) && dueDate != null && computedEnd != null && computedEnd.isAfter(dueDate);
+      entries.add(TaskIndexEntry.builder()
+        .id(sprint.getId() + ":" + task.getId())
+        .sprintId(sprint.getId())
+        .projectId(sprint.getProjectId())
+        .sprintTitle(sprint.getTitle())
+        .sprintStatus(sprint.getStatus())
+        .taskId(task.getId())
+        .name(task.getName())
+        .assigneeMemberName(task.getAssigneeMemberName())
+        .status(status)
+        .storyPoints(task.getStoryPoints())
+        .dueDate(dueDate == null ? null : dueDate.toString())
+        .computedStartDate(computedStart == null ? null : computedStart.toString())
+        .computedEndDate(computedEnd == null ? null : computedEnd.toString())
+        .completedAt(EpochDays.isPresent(completedDay) ? EpochDays.format(completedDay) : null)
+        .late(late)
+        .dependencies(task.getDependencies() == null ? List.of() : task.getDependencies())
+        .build());
+    }
+    return entries;
+  }
+}
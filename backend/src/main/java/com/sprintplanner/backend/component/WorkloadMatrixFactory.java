@@ -0,0 +1,305 @@
+package com.sprintplanner.backend.component;
+
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskWorkSegment;
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import com.sprintplanner.backend.domain.WorkloadRow;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkloadMatrixFactory {
+  public static final int LEVEL_OK = 0;
+  public static final int LEVEL_WARNING = 1;
+  public static final int LEVEL_ERROR = 2;
+
+  private final CapacityCalculator capacityCalculator;
+
+  public WorkloadMatrixFactory(CapacityCalculator capacityCalculator) {
+    this.capacityCalculator = capacityCalculator;
+  }
+
+  public WorkloadMatrix build(String sprintId, String projectId, RootPersistedState state, Instant sprintUpdatedAt) {
+    Layout layout = layout(state);
+    int[][] load = new int[layout.members().size()][layout.dayCount()];
+    for (TaskItem task : tasks(state)) {
+      apply(layout, load, task, 1);
+    }
+    return assemble(sprintId, projectId, state, layout, load, sprintUpdatedAt);
+  }
+
+  public WorkloadMatrix update(
+    WorkloadMatrix previous,
+    RootPersistedState previousState,
+    String sprintId,
+    String projectId,
+    RootPersistedState state,
+    Instant sprintUpdatedAt
+  ) {
+    Layout layout = layout(state);
+    if (previous == null || previousState == null || !sameLayout(previous, layout)) {
+      return build(sprintId, projectId, state, sprintUpdatedAt);
+    }
+    Map<String, TaskItem> previousTasks = new HashMap<>();
+    for (TaskItem task : tasks(previousState)) {
+      if (task.getId() == null || previousTasks.put(task.getId(), task) != null) {
+        return build(sprintId, projectId, state, sprintUpdatedAt);
+      }
+    }
+    int[][] load = new int[layout.members().size()][];
+    for (int row = 0; row < load.length; row++) {
+      load[row] = toArray(previous.getRows().get(row).getLoadMinutes(), layout.dayCount());
+    }
+    for (TaskItem task : tasks(state)) {
+      if (task.getId() == null) {
+        return build(sprintId, projectId, state, sprintUpdatedAt);
+      }
+      TaskItem before = previousTasks.remove(task.getId());
+      if (before != null && sameLoad(before, task)) {
+        continue;
+      }
+      if (before != null) {
+        apply(layout, load, before, -1);
+      }
+      apply(layout, load, task, 1);
+    }
+    for (TaskItem removed : previousTasks.values()) {
+      apply(layout, load, removed, -1);
+    }
+    for (int[] row : load) {
+      for (int minutes : row) {
+        if (minutes < 0) {
+          return build(sprintId, projectId, state, sprintUpdatedAt);
+        }
+      }
+    }
+    return assemble(sprintId, projectId, state, layout, load, sprintUpdatedAt);
+  }
+
+  public int level(int loadMinutes, int capacityMinutes, boolean counted, double warningLimit, double errorLimit) {
+    if (!counted || loadMinutes <= 0) {
+      return LEVEL_OK;
+    }
+    if (capacityMinutes <= 0) {
+      return LEVEL_ERROR;
+    }
+    double ratio = loadMinutes / (double) capacityMinutes;
+    if (ratio > errorLimit) {
+      return LEVEL_ERROR;
+    }
+    return ratio > warningLimit ? LEVEL_WARNING : LEVEL_OK;
+  }
+
+  private WorkloadMatrix assemble(
+    String sprintId,
+    String projectId,
+    RootPersistedState state,
+    Layout layout,
+    int[][] load,
+    Instant sprintUpdatedAt
+  ) {
+    GlobalConfig config = state == null || state.getConfig() == null ? null : state.getConfig().getValue();
+    double warningLimit = 1 + (config == null ? 0 : config.getWorkloadWarningOver());
+    double errorLimit = 1 + (config == null ? 0 : config.getWorkloadErrorOver());
+    int[] dayMinutes = dayMinutes(state, layout, config);
+
+    List<WorkloadRow> rows = new ArrayList<>(layout.members().size());
+    for (int row = 0; row < layout.members().size(); row++) {
+      Member member = layout.members().get(row);
+      boolean counted = capacityCalculator.isCounted(member, config);
+      double factor = counted ? capacityCalculator.memberFactor(member, config) : 0;
+      List<Integer> capacity = new ArrayList<>(layout.dayCount());
+      List<Integer> loadMinutes = new ArrayList<>(layout.dayCount());
+      List<Integer> levels = new ArrayList<>(layout.dayCount());
+      WorkloadRow workloadRow = WorkloadRow.builder()
+        .member(member.getName())
+        .roleType(member.getRoleType())
+        .counted(counted)
+        .capacityMinutes(capacity)
+        .loadMinutes(loadMinutes)
+        .levels(levels)
+        .build();
+      for (int offset = 0; offset < layout.dayCount(); offset++) {
+        int dayCapacity = (int) Math.round(dayMinutes[offset] * factor);
+        int dayLoad = load[row][offset];
+        int level = level(dayLoad, dayCapacity, counted, warningLimit, errorLimit);
+        capacity.add(dayCapacity);
+        loadMinutes.add(dayLoad);
+        levels.add(level);
+        workloadRow.setTotalCapacityMinutes(workloadRow.getTotalCapacityMinutes() + dayCapacity);
+        workloadRow.setTotalLoadMinutes(workloadRow.getTotalLoadMinutes() + dayLoad);
+        if (level == LEVEL_WARNING) {
+          workloadRow.setWarningDays(workloadRow.getWarningDays() + 1);
+        } else if (level == LEVEL_ERROR) {
+          workloadRow.setErrorDays(workloadRow.getErrorDays() + 1);
+        }
+      }
+      rows.add(workloadRow);
+    }
+    return WorkloadMatrix.builder()
+      .sprintId(sprintId)
+      .projectId(projectId)
+      .startDate(EpochDays.format(layout.start()))
+      .dayCount(layout.dayCount())
+      .warningLimit(warningLimit)
+      .errorLimit(errorLimit)
+      .rows(rows)
+      .sprintUpdatedAt(sprintUpdatedAt)
+      .updatedAt(DateTimeUtil.now())
+      .build();
+  }
+
+  private int[] dayMinutes(RootPersistedState state, Layout layout, GlobalConfig config) {
+    int[] minutes = new int[layout.dayCount()];
+    if (layout.dayCount() == 0) {
+      return minutes;
+    }
+    Map<Integer, DaySchedule> schedules = new HashMap<>();
+    List<DaySchedule> daySchedules = state.getCalendar() == null ? null : state.getCalendar().getDaySchedules();
+    for (DaySchedule day : safeList(daySchedules)) {
+      int epochDay = day == null ? EpochDays.INVALID : EpochDays.parseIsoDate(day.getDate());
+      if (EpochDays.isPresent(epochDay)) {
+        schedules.put(epochDay, day);
+      }
+    }
+    int fallback = config == null ? 0 : config.getDailyWorkHours() * 60;
+    for (int offset = 0; offset < minutes.length; offset++) {
+      int day = layout.start() + offset;
+      DaySchedule schedule = schedules.get(day);
+      if (schedule != null) {
+        minutes[offset] = schedule.isNonWorking() ? 0 : capacityCalculator.periodsMinutes(schedule.getPeriods());
+      } else {
+        minutes[offset] = EpochDays.isWeekend(day) ? 0 : fallback;
+      }
+    }
+
+    List<EventItem> events = state.getEvents() == null ? List.of() : safeList(state.getEvents().getItems());
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    int[] eventMinutes = new int[minutes.length];
+    int recurringMinutes = 0;
+    for (int i = 0; i < events.size(); i++) {
+      EventItem event = events.get(i);
+      if (event == null) {
+        continue;
+      }
+      if (event.isRecurringDaily()) {
+        recurringMinutes += event.getMinutes();
+        continue;
+      }
+      int offset = dates.eventDay(i) - layout.start();
+      if (EpochDays.isPresent(dates.eventDay(i)) && offset >= 0 && offset < minutes.length) {
+        eventMinutes[offset] += event.getMinutes();
+      }
+    }
+    for (int offset = 0; offset < minutes.length; offset++) {
+      if (minutes[offset] > 0) {
+        minutes[offset] = Math.max(0, minutes[offset] - recurringMinutes - eventMinutes[offset]);
+      }
+    }
+    return minutes;
+  }
+
+  private void apply(Layout layout, int[][] load, TaskItem task, int sign) {
+    Integer row = task.getAssigneeMemberName() == null ? null : layout.rows().get(task.getAssigneeMemberName());
+    if (row == null) {
+      return;
+    }
+    for (TaskWorkSegment segment : safeList(task.getComputedTimeline())) {
+      int day = segment == null ? EpochDays.INVALID : EpochDays.parseIsoDate(segment.getDate());
+      int offset = day - layout.start();
+      if (!EpochDays.isPresent(day) || offset < 0 || offset >= layout.dayCount()) {
+        continue;
+      }
+      load[row][offset] += sign * segmentMinutes(segment);
+    }
+  }
+
+  private int segmentMinutes(TaskWorkSegment segment) {
+    if (segment.getMinutes() > 0) {
+      return segment.getMinutes();
+    }
+    int start = EpochDays.parseTimeMinutes(segment.getStartTime());
+    int end = EpochDays.parseTimeMinutes(segment.getEndTime());
+    return start < 0 || end < start ? 0 : end - start;
+  }
+
+  private boolean sameLoad(TaskItem before, TaskItem after) {
+    return Objects.equals(before.getAssigneeMemberName(), after.getAssigneeMemberName())
+      && Objects.equals(before.getComputedTimeline(), after.getComputedTimeline());
+  }
+
+  private boolean sameLayout(WorkloadMatrix previous, Layout layout) {
+    List<WorkloadRow> rows = safeList(previous.getRows());
+    if (previous.getDayCount() != layout.dayCount()
+      || !Objects.equals(previous.getStartDate(), EpochDays.format(layout.start()))
+      || rows.size() != layout.members().size()) {
+      return false;
+    }
+    for (int row = 0; row < rows.size(); row++) {
+      if (!Objects.equals(rows.get(row).getMember(), layout.members().get(row).getName())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Layout layout(RootPersistedState state) {
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    int start = dates.sprintStart();
+    int end = dates.sprintEnd();
+    boolean valid = EpochDays.isPresent(start) && EpochDays.isPresent(end) && start <= end;
+    Map<String, Integer> rows = new LinkedHashMap<>();
+    List<Member> members = new ArrayList<>();
+    List<Member> items = state == null || state.getMembers() == null ? List.of() : safeList(state.getMembers().getItems());
+    for (Member member : items) {
+      if (member != null && member.getName() != null && !rows.containsKey(member.getName())) {
+        rows.put(member.getName(), members.size());
+        members.add(member);
+      }
+    }
+    return new Layout(valid ? start : EpochDays.NONE, valid ? end - start + 1 : 0, members, rows);
+  }
+
+  private int[] toArray(List<Integer> values, int size) {
+    int[] array = new int[size];
+    List<Integer> source = safeList(values);
+    for (int i = 0; i < size && i < source.size(); i++) {
+      array[i] = source.get(i) == null ? 0 : source.get(i);
+    }
+    return array;
+  }
+
+  private List<TaskItem> tasks(RootPersistedState state) {
+    if (state == null || state.getTasks() == null || state.getTasks().getItems() == null) {
+      return List.of();
+    }
+    List<TaskItem> tasks = new ArrayList<>(state.getTasks().getItems().size());
+    for (TaskItem task : state.getTasks().getItems()) {
+      if (task != null) {
+        tasks.add(task);
+      }
+    }
+    return tasks;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+
+  private record Layout(int start, int dayCount, List<Member> members, Map<String, Integer> rows) {
+  }
+}
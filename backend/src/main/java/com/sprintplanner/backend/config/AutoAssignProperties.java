@@ -0,0 +1,13 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.auto-assign")
+public class AutoAssignProperties {
+  private int threads;
+  private int maxQueued = 64;
+  private long defaultTimeBudgetMillis = 2000;
+  private long maxTimeBudgetMillis = 10000;
+}
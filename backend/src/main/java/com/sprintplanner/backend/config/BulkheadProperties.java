@@ -0,0 +1,38 @@
+package com.sprintplanner.backend.config;
+
+import com.sprintplanner.backend.bulkhead.RequestClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.bulkhead")
+public class BulkheadProperties {
+  private boolean enabled = true;
+  private Compartment lightRead = new Compartment(64, 16, 96, 32, 100, 1);
+  private Compartment heavyRead = new Compartment(16, 4, 32, 16, 500, 2);
+  private Compartment write = new Compartment(12, 4, 24, 16, 1000, 2);
+  private Compartment export = new Compartment(4, 4, 4, 8, 2000, 5);
+
+  public Compartment compartment(RequestClass requestClass) {
+    return switch (requestClass) {
+      case LIGHT_READ -> lightRead;
+      case HEAVY_READ -> heavyRead;
+      case WRITE -> write;
+      case EXPORT -> export;
+    };
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Compartment {
+    private int initialLimit;
+    private int minLimit;
+    private int maxLimit;
+    private int queueCapacity;
+    private long queueTimeoutMillis;
+    private int retryAfterSeconds;
+  }
+}
@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.forecast")
+public class ForecastProperties {
+  private int threads;
+  private int maxQueued = 64;
+  private int defaultRuns = 10000;
+  private int maxRuns = 100000;
+  private int horizonDays = 130;
+  private int minSamples = 5;
+  private double defaultSigma = 0.35;
+}
@@ -0,0 +1,10 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.holiday-calendars")
+public class HolidayCalendarProperties {
+  private long cacheTtlMillis = 5000;
+}
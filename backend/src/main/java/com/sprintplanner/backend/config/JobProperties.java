@@ -0,0 +1,14 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.jobs")
+public class JobProperties {
+  private int maxConcurrent = 2;
+  private int maxQueued = 100;
+  private long progressIntervalMillis = 500;
+  private long streamTimeoutMillis = 600000;
+  private long leaseMillis = 60000;
+}
@@ -0,0 +1,77 @@
+package com.sprintplanner.backend.config;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.sprintplanner.backend.component.StateInterner;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.SprintTemplate;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.time.Instant;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+
+@Configuration
+public class MongoConfig {
+  @Bean
+  public MongoCustomConversions mongoCustomConversions() {
+    return new MongoCustomConversions(List.of(new IsoStringToInstantConverter()));
+  }
+
+  @Bean
+  public GridFSBucket jobResultBucket(MongoDatabaseFactory mongoDatabaseFactory) {
+    return GridFSBuckets.create(mongoDatabaseFactory.getMongoDatabase(), "job_results");
+  }
+
+  @Bean
+  public SprintInterningCallback sprintInterningCallback(StateInterner stateInterner) {
+    return new SprintInterningCallback(stateInterner);
+  }
+
+  @Bean
+  public SprintTemplateInterningCallback sprintTemplateInterningCallback(StateInterner stateInterner) {
+    return new SprintTemplateInterningCallback(stateInterner);
+  }
+
+  @ReadingConverter
+  static class IsoStringToInstantConverter implements Converter<String, Instant> {
+    @Override
+    public Instant convert(String source) {
+      return DateTimeUtil.parseInstant(source);
+    }
+  }
+
+  static class SprintInterningCallback implements AfterConvertCallback<SprintDocument> {
+    private final StateInterner stateInterner;
+
+    SprintInterningCallback(StateInterner stateInterner) {
+      this.stateInterner = stateInterner;
+    }
+
+    @Override
+    public SprintDocument onAfterConvert(SprintDocument entity, Document document, String collection) {
+      stateInterner.intern(entity.getState());
+      return entity;
+    }
+  }
+
+  static class SprintTemplateInterningCallback implements AfterConvertCallback<SprintTemplate> {
+    private final StateInterner stateInterner;
+
+    SprintTemplateInterningCallback(StateInterner stateInterner) {
+      this.stateInterner = stateInterner;
+    }
+
+    @Override
+    public SprintTemplate onAfterConvert(SprintTemplate entity, Document document, String collection) {
+      stateInterner.intern(entity.getState());
+      return entity;
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.sprintplanner.backend.config;
+
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+  private static final List<String> BINDING_PACKAGES = List.of(
+    "com.sprintplanner.backend.domain",
+    "com.sprintplanner.backend.dto"
+  );
+  private static final List<String> RESOURCE_PATTERNS = List.of(
+    "com/lowagie/text/version.properties",
+    "com/lowagie/text/pdf/fonts/*.afm",
+    "com/lowagie/text/pdf/fonts/*.properties",
+    "com/lowagie/text/pdf/fonts/*.txt"
+  );
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+      @Override
+      protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+        return beanDefinition.getMetadata().isIndependent();
+      }
+    };
+    scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+    scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+    for (String basePackage : BINDING_PACKAGES) {
+      for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+        Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+      }
+    }
+    RESOURCE_PATTERNS.forEach(hints.resources()::registerPattern);
+  }
+}
@@ -0,0 +1,12 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.read-routing")
+public class ReadRoutingProperties {
+  private boolean enabled;
+  private long maxStalenessSeconds = 90;
+  private int maxTrackedProjects = 10000;
+}
@@ -0,0 +1,13 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.state-cache")
+public class StateCacheProperties {
+  private boolean enabled = true;
+  private long maxBytes = 256L * 1024 * 1024;
+  private int slabBytes = 4 * 1024 * 1024;
+  private int pageBytes = 8 * 1024;
+}
@@ -0,0 +1,42 @@
+package com.sprintplanner.backend.config;
+
+import com.sprintplanner.backend.dto.SprintUpdateStateRequestDto;
+import com.sprintplanner.backend.parser.StatePayloadReader;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+public class StatePayloadHttpMessageConverter extends AbstractHttpMessageConverter<SprintUpdateStateRequestDto> {
+  private final StatePayloadReader statePayloadReader;
+
+  public StatePayloadHttpMessageConverter(StatePayloadReader statePayloadReader) {
+    super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    this.statePayloadReader = statePayloadReader;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return SprintUpdateStateRequestDto.class.equals(clazz);
+  }
+
+  @Override
+  protected boolean canWrite(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected SprintUpdateStateRequestDto readInternal(
+    Class<? extends SprintUpdateStateRequestDto> clazz,
+    HttpInputMessage inputMessage
+  ) throws IOException {
+    return statePayloadReader.read(inputMessage.getBody(), inputMessage.getHeaders().getContentLength());
+  }
+
+  @Override
+  protected void writeInternal(SprintUpdateStateRequestDto request, HttpOutputMessage outputMessage) {
+    throw new HttpMessageNotWritableException("Escrita não suportada.");
+  }
+}
@@ -0,0 +1,17 @@
+package com.sprintplanner.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sprintplanner.limits.state")
+public class StatePayloadProperties {
+  private long maxBodyBytes = 8 * 1024 * 1024;
+  private int maxTasks = 2000;
+  private int maxMembers = 200;
+  private int maxEvents = 2000;
+  private int maxSegmentsPerTask = 400;
+  private int maxSegments = 100000;
+  private int maxStringLength = 20000;
+  private int maxNestingDepth = 32;
+}
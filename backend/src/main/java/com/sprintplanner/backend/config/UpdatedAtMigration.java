@@ -0,0 +1,67 @@
+package com.sprintplanner.backend.config;
+
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UpdatedAtMigration {
+  private static final Logger LOG = LoggerFactory.getLogger(UpdatedAtMigration.class);
+  private static final List<String> COLLECTIONS = List.of("sprints", "projects", "holiday_calendars");
+  private static final int BATCH_SIZE = 500;
+
+  private final MongoTemplate mongoTemplate;
+
+  public UpdatedAtMigration(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrate() {
+    for (String collection : COLLECTIONS) {
+      try {
+        int migrated = migrate(collection);
+        if (migrated > 0) {
+          LOG.info("Converted updatedAt to date in {} documents of {}", migrated, collection);
+        }
+      } catch (RuntimeException ex) {
+        LOG.warn("Could not convert updatedAt in {}: {}", collection, ex.getMessage());
+      }
+    }
+  }
+
+  private int migrate(String collection) {
+    Query query = Query.query(Criteria.where("updatedAt").type(2));
+    query.fields().include("updatedAt");
+    query.limit(BATCH_SIZE);
+    int total = 0;
+    while (true) {
+      List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+      if (batch.isEmpty()) {
+        return total;
+      }
+      BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+      for (Document document : batch) {
+        Instant updatedAt = DateTimeUtil.parseInstant(document.getString("updatedAt"));
+        Query byId = Query.query(Criteria.where("_id").is(document.get("_id")));
+        bulk.updateOne(byId, updatedAt == null
+          ? new Update().unset("updatedAt")
+          : new Update().set("updatedAt", Date.from(updatedAt)));
+      }
+      bulk.execute();
+      total += batch.size();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.sprintplanner.backend.config;
+
+import com.sprintplanner.backend.parser.StatePayloadReader;
+import java.time.Clock;
+import java.util.List;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties({ StatePayloadProperties.class, JobProperties.class, AutoAssignProperties.class, ForecastProperties.class, StateCacheProperties.class, ReadRoutingProperties.class, BulkheadProperties.class, HolidayCalendarProperties.class })
+public class WebConfig implements WebMvcConfigurer {
+  private final StatePayloadReader statePayloadReader;
+
+  public WebConfig(StatePayloadReader statePayloadReader) {
+    this.statePayloadReader = statePayloadReader;
+  }
+
+  @Bean
+  public Clock clock() {
+    return Clock.systemUTC();
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(0, new StatePayloadHttpMessageConverter(statePayloadReader));
+  }
+}
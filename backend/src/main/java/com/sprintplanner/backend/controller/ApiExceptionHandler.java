@@ -1,10 +1,13 @@
 package com.sprintplanner.backend.controller;
 
 import com.sprintplanner.backend.dto.ErrorResponseDto;
+import com.sprintplanner.backend.scheduling.SchedulerBusyException;
 import com.sprintplanner.backend.util.DateTimeUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +44,18 @@ public class ApiExceptionHandler {
     return buildResponse(HttpStatus.BAD_REQUEST, message, request.getRequestURI());
   }
 
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<ErrorResponseDto> handleRejected(TaskRejectedException ex, HttpServletRequest request) {
+    ResponseEntity<ErrorResponseDto> response = buildResponse(
+      HttpStatus.SERVICE_UNAVAILABLE,
+      ex instanceof SchedulerBusyException ? ex.getMessage() : "Servidor ocupado. Tente novamente em instantes.",
+      request.getRequestURI()
+    );
+    return ResponseEntity.status(response.getStatusCode())
+      .header(HttpHeaders.RETRY_AFTER, "5")
+      .body(response.getBody());
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponseDto> handleUnexpected(Exception ex, HttpServletRequest request) {
     return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno.", request.getRequestURI());
@@ -0,0 +1,25 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.AutoAssignPlanDto;
+import com.sprintplanner.backend.dto.AutoAssignRequestDto;
+import com.sprintplanner.backend.service.AutoAssignService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class AutoAssignController {
+  private final AutoAssignService autoAssignService;
+
+  public AutoAssignController(AutoAssignService autoAssignService) {
+    this.autoAssignService = autoAssignService;
+  }
+
+  @PostMapping("/sprints/{id}/auto-assign")
+  public AutoAssignPlanDto autoAssign(@PathVariable String id, @RequestBody(required = false) AutoAssignRequestDto request) {
+    return autoAssignService.autoAssign(id, request);
+  }
+}
@@ -0,0 +1,40 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.HolidayCalendarDto;
+import com.sprintplanner.backend.service.HolidayCalendarService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class CalendarController {
+  private final HolidayCalendarService holidayCalendarService;
+
+  public CalendarController(HolidayCalendarService holidayCalendarService) {
+    this.holidayCalendarService = holidayCalendarService;
+  }
+
+  @GetMapping("/calendars/organization")
+  public HolidayCalendarDto getOrganizationCalendar() {
+    return holidayCalendarService.getOrganizationCalendar();
+  }
+
+  @PutMapping("/calendars/organization")
+  public HolidayCalendarDto updateOrganizationCalendar(@RequestBody HolidayCalendarDto input) {
+    return holidayCalendarService.updateOrganizationCalendar(input);
+  }
+
+  @GetMapping("/projects/{id}/calendar")
+  public HolidayCalendarDto getProjectCalendar(@PathVariable String id) {
+    return holidayCalendarService.getProjectCalendar(id);
+  }
+
+  @PutMapping("/projects/{id}/calendar")
+  public HolidayCalendarDto updateProjectCalendar(@PathVariable String id, @RequestBody HolidayCalendarDto input) {
+    return holidayCalendarService.updateProjectCalendar(id, input);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.BurndownDto;
+import com.sprintplanner.backend.service.FollowUpService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class FollowUpController {
+  private final FollowUpService followUpService;
+
+  public FollowUpController(FollowUpService followUpService) {
+    this.followUpService = followUpService;
+  }
+
+  @GetMapping("/sprints/{id}/burndown")
+  public BurndownDto getBurndown(@PathVariable String id) {
+    return followUpService.getBurndown(id);
+  }
+}
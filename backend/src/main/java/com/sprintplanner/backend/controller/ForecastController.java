@@ -0,0 +1,38 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.ProjectForecastDto;
+import com.sprintplanner.backend.dto.SprintForecastDto;
+import com.sprintplanner.backend.service.ForecastService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class ForecastController {
+  private final ForecastService forecastService;
+
+  public ForecastController(ForecastService forecastService) {
+    this.forecastService = forecastService;
+  }
+
+  @GetMapping("/sprints/{id}/forecast")
+  public SprintForecastDto getSprintForecast(
+    @PathVariable String id,
+    @RequestParam(required = false) Integer runs,
+    @RequestParam(required = false) Long seed
+  ) {
+    return forecastService.getSprintForecast(id, runs, seed);
+  }
+
+  @GetMapping("/projects/{id}/forecast")
+  public ProjectForecastDto getProjectForecast(
+    @PathVariable String id,
+    @RequestParam(required = false) Integer runs,
+    @RequestParam(required = false) Long seed
+  ) {
+    return forecastService.getProjectForecast(id, runs, seed);
+  }
+}
@@ -0,0 +1,75 @@
+package com.sprintplanner.backend.controller;
+
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.sprintplanner.backend.dto.JobDto;
+import com.sprintplanner.backend.dto.JobRequestDto;
+import com.sprintplanner.backend.service.JobService;
+import org.bson.Document;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/jobs")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.CONTENT_DISPOSITION)
+public class JobController {
+  private final JobService jobService;
+
+  public JobController(JobService jobService) {
+    this.jobService = jobService;
+  }
+
+  @PostMapping
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public JobDto submitJob(@RequestBody JobRequestDto request) {
+    return jobService.submit(request);
+  }
+
+  @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public JobDto getJob(@PathVariable String id) {
+    return jobService.getJob(id);
+  }
+
+  @GetMapping(value = "/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamJob(@PathVariable String id) {
+    return jobService.streamJob(id);
+  }
+
+  @GetMapping("/{id}/result")
+  public ResponseEntity<StreamingResponseBody> getJobResult(@PathVariable String id) {
+    GridFSDownloadStream download = jobService.openResult(id);
+    Document metadata = download.getGridFSFile().getMetadata();
+    String contentType = metadata == null ? null : metadata.getString("contentType");
+    StreamingResponseBody body = out -> {
+      try (GridFSDownloadStream in = download) {
+        in.transferTo(out);
+      }
+    };
+    return ResponseEntity.ok()
+      .contentType(contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType))
+      .contentLength(download.getGridFSFile().getLength())
+      .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(download.getGridFSFile().getFilename())
+        .build()
+        .toString())
+      .body(body);
+  }
+
+  @DeleteMapping("/{id}")
+  public JobDto cancelJob(@PathVariable String id) {
+    return jobService.cancelJob(id);
+  }
+}
@@ -1,7 +1,9 @@
 package com.sprintplanner.backend.controller;
 
+import com.sprintplanner.backend.dto.ProjectDashboardDto;
 import com.sprintplanner.backend.dto.ProjectInputDto;
 import com.sprintplanner.backend.dto.ProjectMetaDto;
+import com.sprintplanner.backend.service.ProjectDashboardService;
 import com.sprintplanner.backend.service.ProjectService;
 import java.util.List;
 import org.springframework.http.HttpStatus;
@@ -21,9 +23,11 @@ import org.springframework.web.bind.annotation.RestController;
 @CrossOrigin(origins = "*")
 public class ProjectController {
   private final ProjectService projectService;
+  private final ProjectDashboardService projectDashboardService;
 
-  public ProjectController(ProjectService projectService) {
+  public ProjectController(ProjectService projectService, ProjectDashboardService projectDashboardService) {
     this.projectService = projectService;
+    this.projectDashboardService = projectDashboardService;
   }
 
   @GetMapping
@@ -36,6 +40,11 @@ public class ProjectController {
     return projectService.getProject(id);
   }
 
+  @GetMapping("/{id}/dashboard")
+  public ProjectDashboardDto getDashboard(@PathVariable String id) {
+    return projectDashboardService.getDashboard(id);
+  }
+
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
   public ProjectMetaDto createProject(@RequestBody ProjectInputDto input) {
@@ -0,0 +1,50 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.report.ReportExport;
+import com.sprintplanner.backend.service.ReportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.CONTENT_DISPOSITION)
+public class ReportController {
+  private final ReportService reportService;
+
+  public ReportController(ReportService reportService) {
+    this.reportService = reportService;
+  }
+
+  @GetMapping("/sprints/{id}/report")
+  public ResponseEntity<StreamingResponseBody> getSprintReport(
+    @PathVariable String id,
+    @RequestParam(defaultValue = "csv") String format
+  ) {
+    return toResponse(reportService.sprintReport(id, format));
+  }
+
+  @GetMapping("/projects/{id}/report")
+  public ResponseEntity<StreamingResponseBody> getProjectReport(
+    @PathVariable String id,
+    @RequestParam(defaultValue = "csv") String format
+  ) {
+    return toResponse(reportService.projectReport(id, format));
+  }
+
+  private ResponseEntity<StreamingResponseBody> toResponse(ReportExport export) {
+    return ResponseEntity.ok()
+      .contentType(MediaType.parseMediaType(export.format().contentType()))
+      .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(export.fileName())
+        .build()
+        .toString())
+      .body(export.body());
+  }
+}
@@ -1,10 +1,15 @@
 package com.sprintplanner.backend.controller;
 
+import com.sprintplanner.backend.dto.SprintBatchGetRequestDto;
+import com.sprintplanner.backend.dto.SprintCloneRequestDto;
 import com.sprintplanner.backend.dto.SprintCreateRequestDto;
 import com.sprintplanner.backend.dto.SprintMetaDto;
 import com.sprintplanner.backend.dto.SprintStateResponseDto;
 import com.sprintplanner.backend.dto.SprintUpdateStateRequestDto;
+import com.sprintplanner.backend.service.SprintBatchService;
 import com.sprintplanner.backend.service.SprintService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,15 +28,25 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping
 @CrossOrigin(origins = "*")
 public class SprintController {
+  private static final String NDJSON = "application/x-ndjson";
+
   private final SprintService sprintService;
+  private final SprintBatchService sprintBatchService;
 
-  public SprintController(SprintService sprintService) {
+  public SprintController(SprintService sprintService, SprintBatchService sprintBatchService) {
     this.sprintService = sprintService;
+    this.sprintBatchService = sprintBatchService;
   }
 
   @GetMapping("/projects/{projectId}/sprints")
-  public List<SprintMetaDto> listSprintSummaries(@PathVariable String projectId) {
-    return sprintService.listSprintSummaries(projectId);
+  public List<SprintMetaDto> listSprintSummaries(
+    @PathVariable String projectId,
+    @RequestParam(required = false) String status,
+    @RequestParam(required = false) String sort,
+    @RequestParam(required = false) String createdFrom,
+    @RequestParam(required = false) String createdTo
+  ) {
+    return sprintService.listSprintSummaries(projectId, status, sort, createdFrom, createdTo);
   }
 
   @PostMapping("/projects/{projectId}/sprints")
@@ -44,8 +60,31 @@ public class SprintController {
   }
 
   @GetMapping("/sprints/{id}")
-  public SprintStateResponseDto getSprint(@PathVariable String id) {
-    return sprintService.getSprint(id);
+  public SprintStateResponseDto getSprint(@PathVariable String id, @RequestParam(required = false) String fields) {
+    return sprintService.getSprint(id, fields);
+  }
+
+  @PostMapping("/sprints/batch-get")
+  public void batchGetSprints(
+    @RequestBody(required = false) SprintBatchGetRequestDto request,
+    HttpServletResponse response
+  ) throws IOException {
+    response.setContentType(NDJSON);
+    sprintBatchService.batchGet(request, response.getOutputStream());
+  }
+
+  @GetMapping("/sprints/{id}/state/{section}")
+  public Object getSprintSection(@PathVariable String id, @PathVariable String section) {
+    return sprintService.getSprintSection(id, section);
+  }
+
+  @PostMapping("/sprints/{id}/clone")
+  @ResponseStatus(HttpStatus.CREATED)
+  public SprintMetaDto cloneSprint(
+    @PathVariable String id,
+    @RequestBody(required = false) SprintCloneRequestDto request
+  ) {
+    return sprintService.cloneSprint(id, request);
   }
 
   @PutMapping("/sprints/{id}/state")
@@ -0,0 +1,56 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.SprintCloneRequestDto;
+import com.sprintplanner.backend.dto.SprintMetaDto;
+import com.sprintplanner.backend.dto.SprintTemplateDto;
+import com.sprintplanner.backend.dto.SprintTemplateRequestDto;
+import com.sprintplanner.backend.service.SprintTemplateService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class SprintTemplateController {
+  private final SprintTemplateService sprintTemplateService;
+
+  public SprintTemplateController(SprintTemplateService sprintTemplateService) {
+    this.sprintTemplateService = sprintTemplateService;
+  }
+
+  @GetMapping("/projects/{projectId}/sprint-templates")
+  public List<SprintTemplateDto> listTemplates(@PathVariable String projectId) {
+    return sprintTemplateService.listTemplates(projectId);
+  }
+
+  @PostMapping("/projects/{projectId}/sprint-templates")
+  @ResponseStatus(HttpStatus.CREATED)
+  public SprintTemplateDto createTemplate(
+    @PathVariable String projectId,
+    @RequestBody(required = false) SprintTemplateRequestDto request
+  ) {
+    return sprintTemplateService.createTemplate(projectId, request);
+  }
+
+  @PostMapping("/sprint-templates/{id}/sprints")
+  @ResponseStatus(HttpStatus.CREATED)
+  public SprintMetaDto createSprint(
+    @PathVariable String id,
+    @RequestBody(required = false) SprintCloneRequestDto request
+  ) {
+    return sprintTemplateService.createSprint(id, request);
+  }
+
+  @DeleteMapping("/sprint-templates/{id}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void deleteTemplate(@PathVariable String id) {
+    sprintTemplateService.deleteTemplate(id);
+  }
+}
@@ -0,0 +1,26 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.TaskSearchPageDto;
+import com.sprintplanner.backend.dto.TaskSearchRequestDto;
+import com.sprintplanner.backend.service.TaskSearchService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/tasks")
+@CrossOrigin(origins = "*")
+public class TaskController {
+  private final TaskSearchService taskSearchService;
+
+  public TaskController(TaskSearchService taskSearchService) {
+    this.taskSearchService = taskSearchService;
+  }
+
+  @GetMapping("/search")
+  public TaskSearchPageDto searchTasks(@ModelAttribute TaskSearchRequestDto request) {
+    return taskSearchService.search(request);
+  }
+}
@@ -0,0 +1,29 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.TimelineDto;
+import com.sprintplanner.backend.service.TimelineService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class TimelineController {
+  private final TimelineService timelineService;
+
+  public TimelineController(TimelineService timelineService) {
+    this.timelineService = timelineService;
+  }
+
+  @GetMapping("/sprints/{id}/timeline")
+  public TimelineDto getTimeline(
+    @PathVariable String id,
+    @RequestParam(required = false) String from,
+    @RequestParam(required = false) String to,
+    @RequestParam(required = false) String member
+  ) {
+    return timelineService.getTimeline(id, from, to, member);
+  }
+}
@@ -0,0 +1,23 @@
+package com.sprintplanner.backend.controller;
+
+import com.sprintplanner.backend.dto.WorkloadDto;
+import com.sprintplanner.backend.service.WorkloadService;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+public class WorkloadController {
+  private final WorkloadService workloadService;
+
+  public WorkloadController(WorkloadService workloadService) {
+    this.workloadService = workloadService;
+  }
+
+  @GetMapping("/sprints/{id}/workload")
+  public WorkloadDto getWorkload(@PathVariable String id) {
+    return workloadService.getWorkload(id);
+  }
+}
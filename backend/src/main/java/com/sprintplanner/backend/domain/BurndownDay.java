@@ -0,0 +1,24 @@
+package com.sprintplanner.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDay {
+  private String date;
+  private boolean workingDay;
+  private double completedStoryPoints;
+  private int completedTasks;
+  private Double scopeStoryPoints;
+  private Integer scopeTasks;
+  private double burnedStoryPoints;
+  private int burnedTasks;
+  private double remainingStoryPoints;
+  private int remainingTasks;
+  private double idealRemainingStoryPoints;
+}
@@ -0,0 +1,30 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "burndown_series")
+public class BurndownSeries {
+  @Id
+  private String sprintId;
+  @Indexed
+  private String projectId;
+  private String startDate;
+  private String endDate;
+  private double totalStoryPoints;
+  private int totalTasks;
+  private List<BurndownDay> days;
+  private List<TaskCompletion> completions;
+  private Instant updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.sprintplanner.backend.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,4 +15,6 @@ public class CalendarState {
   private List<String> nonWorkingDaysManual;
   private List<String> nonWorkingDaysRemoved;
   private List<DaySchedule> daySchedules;
+  @JsonIgnore
+  private CompactDaySchedules compactSchedules;
 }
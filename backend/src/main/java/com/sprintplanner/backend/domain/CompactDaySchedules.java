@@ -0,0 +1,19 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactDaySchedules {
+  private String startDate;
+  private int dayCount;
+  private List<Long> nonWorkingBits;
+  private List<WorkingPeriod> defaultPeriods;
+  private List<DayPeriodsOverride> overrides;
+}
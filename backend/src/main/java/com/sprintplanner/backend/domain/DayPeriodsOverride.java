@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayPeriodsOverride {
+  private int dayOffset;
+  private List<WorkingPeriod> periods;
+}
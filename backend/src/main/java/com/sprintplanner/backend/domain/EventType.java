@@ -0,0 +1,40 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum EventType {
+  PLANNING("Planning"),
+  REFINEMENT("Refinamento"),
+  REVIEW("Review"),
+  RETROSPECTIVE("Retrospectiva"),
+  DAILY("Daily"),
+  OTHER("Outros");
+
+  private static final Map<String, EventType> BY_CODE = new HashMap<>();
+
+  static {
+    for (EventType value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  EventType(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static EventType from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    EventType value = from(code);
+    return value == null ? code : value.code;
+  }
+}
@@ -0,0 +1,15 @@
+package com.sprintplanner.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Holiday {
+  private String date;
+  private String description;
+}
@@ -0,0 +1,26 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "holiday_calendars")
+public class HolidayCalendar {
+  @Id
+  private String id;
+  private String scope;
+  @Indexed
+  private String projectId;
+  private List<Holiday> days;
+  private Instant updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "jobs")
+@CompoundIndex(name = "status_priority_created", def = "{ 'status': 1, 'priority': -1, 'createdAt': 1 }")
+public class Job {
+  public static final String QUEUED = "queued";
+  public static final String RUNNING = "running";
+  public static final String SUCCEEDED = "succeeded";
+  public static final String FAILED = "failed";
+  public static final String CANCELLED = "cancelled";
+
+  @Id
+  private String id;
+  private String type;
+  private String status;
+  private int priority;
+  private Map<String, String> params;
+  private double progress;
+  private String message;
+  private Map<String, Object> result;
+  private String error;
+  private int attempts;
+  private boolean cancelRequested;
+  private String owner;
+  private Instant leaseUntil;
+  private Instant createdAt;
+  private Instant startedAt;
+  private Instant finishedAt;
+  private Instant updatedAt;
+}
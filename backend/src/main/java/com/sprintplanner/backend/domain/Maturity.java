@@ -0,0 +1,37 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum Maturity {
+  FULL("Plena"),
+  MEDIUM("Mediana"),
+  INITIAL("Inicial");
+
+  private static final Map<String, Maturity> BY_CODE = new HashMap<>();
+
+  static {
+    for (Maturity value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  Maturity(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static Maturity from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    Maturity value = from(code);
+    return value == null ? code : value.code;
+  }
+}
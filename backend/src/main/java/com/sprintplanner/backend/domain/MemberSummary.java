@@ -0,0 +1,20 @@
+package com.sprintplanner.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSummary {
+  private String name;
+  private String roleType;
+  private int capacityMinutes;
+  private long capacityStoryPoints;
+  private int taskCount;
+  private double storyPoints;
+  private double completedStoryPoints;
+}
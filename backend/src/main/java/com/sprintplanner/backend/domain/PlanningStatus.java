@@ -0,0 +1,37 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum PlanningStatus {
+  EDITING("editing"),
+  FOLLOWUP("followup"),
+  CLOSED("closed");
+
+  private static final Map<String, PlanningStatus> BY_CODE = new HashMap<>();
+
+  static {
+    for (PlanningStatus value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  PlanningStatus(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static PlanningStatus from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    PlanningStatus value = from(code);
+    return value == null ? code : value.code;
+  }
+}
@@ -1,5 +1,6 @@
 package com.sprintplanner.backend.domain;
 
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,5 +21,5 @@ public class Project {
   private String endDate;
   private String description;
   private String status;
-  private String updatedAt;
+  private Instant updatedAt;
 }
@@ -1,9 +1,14 @@
 package com.sprintplanner.backend.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sprintplanner.backend.util.SprintDateIndex;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.Transient;
 
 @Data
 @Builder
@@ -17,4 +22,9 @@ public class RootPersistedState {
   private TasksState tasks;
   private ConfigState config;
   private PlanningLifecycleState planningLifecycle;
+  @Transient
+  @JsonIgnore
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private SprintDateIndex dateIndex;
 }
@@ -0,0 +1,38 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum SchedulingStrategy {
+  EDD("EDD"),
+  SPT("SPT"),
+  BLOCKERS("BLOCKERS"),
+  HYBRID("HYBRID");
+
+  private static final Map<String, SchedulingStrategy> BY_CODE = new HashMap<>();
+
+  static {
+    for (SchedulingStrategy value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  SchedulingStrategy(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static SchedulingStrategy from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    SchedulingStrategy value = from(code);
+    return value == null ? code : value.code;
+  }
+}
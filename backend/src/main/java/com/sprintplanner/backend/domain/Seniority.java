@@ -0,0 +1,37 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum Seniority {
+  SENIOR("Sênior"),
+  MID("Pleno"),
+  JUNIOR("Júnior");
+
+  private static final Map<String, Seniority> BY_CODE = new HashMap<>();
+
+  static {
+    for (Seniority value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  Seniority(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static Seniority from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    Seniority value = from(code);
+    return value == null ? code : value.code;
+  }
+}
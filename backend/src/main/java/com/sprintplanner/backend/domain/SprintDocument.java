@@ -1,10 +1,13 @@
 package com.sprintplanner.backend.domain;
 
+import java.time.Instant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
@@ -12,6 +15,12 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "sprints")
+@CompoundIndexes({
+  @CompoundIndex(name = "project_updated", def = "{ 'projectId': 1, 'updatedAt': -1 }"),
+  @CompoundIndex(name = "project_status_updated", def = "{ 'projectId': 1, 'status': 1, 'updatedAt': -1 }"),
+  @CompoundIndex(name = "project_finish", def = "{ 'projectId': 1, 'summary.computedFinishDate': 1 }"),
+  @CompoundIndex(name = "project_overdue", def = "{ 'projectId': 1, 'summary.overdueTaskCount': -1 }")
+})
 public class SprintDocument {
   @Id
   private String id;
@@ -20,6 +29,7 @@ public class SprintDocument {
   private String startDate;
   private String endDate;
   private String status;
-  private String updatedAt;
+  private Instant updatedAt;
+  private SprintSummary summary;
   private RootPersistedState state;
 }
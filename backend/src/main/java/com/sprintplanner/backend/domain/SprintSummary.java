@@ -0,0 +1,27 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintSummary {
+  private Map<String, Integer> taskCountByStatus;
+  private int taskCount;
+  private double totalStoryPoints;
+  private double completedStoryPoints;
+  private int memberCount;
+  private int eventCount;
+  private int workingDays;
+  private int teamCapacityMinutes;
+  private long teamCapacityStoryPoints;
+  private int overdueTaskCount;
+  private String computedFinishDate;
+  private List<MemberSummary> members;
+}
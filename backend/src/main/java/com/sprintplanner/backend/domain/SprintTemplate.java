@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sprint_templates")
+public class SprintTemplate {
+  @Id
+  private String id;
+  @Indexed
+  private String projectId;
+  private String name;
+  private String sourceSprintId;
+  private boolean includesTasks;
+  private int durationDays;
+  private int memberCount;
+  private int eventCount;
+  private int taskCount;
+  private Instant createdAt;
+  private RootPersistedState state;
+}
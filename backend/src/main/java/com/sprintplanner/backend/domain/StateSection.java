@@ -0,0 +1,38 @@
+package com.sprintplanner.backend.domain;
+
+public enum StateSection {
+  SPRINT("sprint"),
+  CALENDAR("calendar"),
+  EVENTS("events"),
+  MEMBERS("members"),
+  TASKS("tasks"),
+  CONFIG("config"),
+  PLANNING_LIFECYCLE("planningLifecycle");
+
+  private final String key;
+
+  StateSection(String key) {
+    this.key = key;
+  }
+
+  public String key() {
+    return key;
+  }
+
+  public String field() {
+    return "state." + key;
+  }
+
+  public static StateSection from(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    for (StateSection section : values()) {
+      if (section.key.equalsIgnoreCase(trimmed)) {
+        return section;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCompletion {
+  private String taskId;
+  private String day;
+  private double storyPoints;
+}
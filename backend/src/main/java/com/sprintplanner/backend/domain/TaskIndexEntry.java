@@ -0,0 +1,47 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "task_index")
+@CompoundIndexes({
+  @CompoundIndex(name = "assignee_status_due", def = "{ 'assigneeMemberName': 1, 'status': 1, 'dueDate': 1 }"),
+  @CompoundIndex(name = "project_status_due", def = "{ 'projectId': 1, 'status': 1, 'dueDate': 1 }"),
+  @CompoundIndex(name = "late_sprint_status_due", def = "{ 'late': 1, 'sprintStatus': 1, 'dueDate': 1 }"),
+  @CompoundIndex(name = "dependencies_status", def = "{ 'dependencies': 1, 'status': 1 }"),
+  @CompoundIndex(name = "project_sprint_task", def = "{ 'projectId': 1, 'sprintId': 1, 'taskId': 1 }")
+})
+public class TaskIndexEntry {
+  @Id
+  private String id;
+  @Indexed
+  private String sprintId;
+  private String projectId;
+  private String sprintTitle;
+  private String sprintStatus;
+  private String taskId;
+  @TextIndexed
+  private String name;
+  private String assigneeMemberName;
+  private String status;
+  private double storyPoints;
+  private String dueDate;
+  private String computedStartDate;
+  private String computedEndDate;
+  private String completedAt;
+  private boolean late;
+  private List<String> dependencies;
+}
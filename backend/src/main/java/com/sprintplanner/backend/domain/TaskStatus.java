@@ -0,0 +1,37 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum TaskStatus {
+  TODO("todo"),
+  DOING("doing"),
+  DONE("done");
+
+  private static final Map<String, TaskStatus> BY_CODE = new HashMap<>();
+
+  static {
+    for (TaskStatus value : values()) {
+      BY_CODE.put(value.code, value);
+    }
+  }
+
+  private final String code;
+
+  TaskStatus(String code) {
+    this.code = code;
+  }
+
+  public String code() {
+    return code;
+  }
+
+  public static TaskStatus from(String code) {
+    return code == null ? null : BY_CODE.get(code);
+  }
+
+  public static String canonical(String code) {
+    TaskStatus value = from(code);
+    return value == null ? code : value.code;
+  }
+}
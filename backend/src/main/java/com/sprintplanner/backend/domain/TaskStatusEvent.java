@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "task_status_events")
+@CompoundIndex(name = "sprint_occurred", def = "{ 'sprintId': 1, 'occurredAt': 1 }")
+public class TaskStatusEvent {
+  @Id
+  private String id;
+  private String sprintId;
+  @Indexed
+  private String projectId;
+  private String taskId;
+  private String fromStatus;
+  private String toStatus;
+  private double storyPoints;
+  private String day;
+  private Instant occurredAt;
+}
@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.domain;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "workload_matrices")
+public class WorkloadMatrix {
+  @Id
+  private String sprintId;
+  @Indexed
+  private String projectId;
+  private String startDate;
+  private int dayCount;
+  private double warningLimit;
+  private double errorLimit;
+  private List<WorkloadRow> rows;
+  private Instant sprintUpdatedAt;
+  private String holidayVersion;
+  private Instant updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.sprintplanner.backend.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadRow {
+  private String member;
+  private String roleType;
+  private boolean counted;
+  private List<Integer> capacityMinutes;
+  private List<Integer> loadMinutes;
+  private List<Integer> levels;
+  private int totalCapacityMinutes;
+  private int totalLoadMinutes;
+  private int warningDays;
+  private int errorDays;
+}
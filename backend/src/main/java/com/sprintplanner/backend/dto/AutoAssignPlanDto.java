@@ -0,0 +1,28 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignPlanDto {
+  private String sprintId;
+  private String objective;
+  private long timeBudgetMillis;
+  private long elapsedMillis;
+  private int workers;
+  private long iterations;
+  private double greedyCost;
+  private double cost;
+  private double makespanDays;
+  private String finishDate;
+  private double totalLatenessDays;
+  private int lateTaskCount;
+  private int changedTaskCount;
+  private List<AutoAssignmentDto> assignments;
+}
@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignRequestDto {
+  private String objective;
+  private Long timeBudgetMillis;
+  private Boolean onlyUnassigned;
+}
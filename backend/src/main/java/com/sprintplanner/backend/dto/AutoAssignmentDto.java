@@ -0,0 +1,24 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignmentDto {
+  private String taskId;
+  private String name;
+  private String currentAssigneeMemberName;
+  private String proposedAssigneeMemberName;
+  private boolean changed;
+  private boolean fixed;
+  private int durationMinutes;
+  private String startDate;
+  private String endDate;
+  private String dueDate;
+  private double latenessDays;
+}
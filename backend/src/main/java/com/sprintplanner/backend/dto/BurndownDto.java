@@ -0,0 +1,21 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDto {
+  private String sprintId;
+  private String startDate;
+  private String endDate;
+  private double totalStoryPoints;
+  private int totalTasks;
+  private String updatedAt;
+  private List<BurndownPointDto> points;
+}
@@ -0,0 +1,22 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDto {
+  private String date;
+  private boolean workingDay;
+  private double idealRemainingStoryPoints;
+  private Double remainingStoryPoints;
+  private Integer remainingTasks;
+  private Double burnedStoryPoints;
+  private Integer burnedTasks;
+  private Double completedStoryPoints;
+  private Integer completedTasks;
+}
@@ -1,5 +1,6 @@
 package com.sprintplanner.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class DayScheduleDto {
   private String date;
+  @JsonProperty("isNonWorking")
   private boolean isNonWorking;
   private List<WorkingPeriodDto> periods;
 }
@@ -0,0 +1,18 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastCalibrationDto {
+  private String source;
+  private int sampleCount;
+  private double mu;
+  private double sigma;
+  private double medianMultiplier;
+}
@@ -0,0 +1,18 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayCalendarDto {
+  private String scope;
+  private String projectId;
+  private List<HolidayDto> days;
+  private String updatedAt;
+}
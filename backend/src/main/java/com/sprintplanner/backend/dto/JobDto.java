@@ -0,0 +1,28 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDto {
+  private String id;
+  private String type;
+  private String status;
+  private int priority;
+  private Map<String, String> params;
+  private double progress;
+  private String message;
+  private Map<String, Object> result;
+  private String error;
+  private int attempts;
+  private String createdAt;
+  private String startedAt;
+  private String finishedAt;
+  private String updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRequestDto {
+  private String type;
+  private Integer priority;
+  private Map<String, String> params;
+}
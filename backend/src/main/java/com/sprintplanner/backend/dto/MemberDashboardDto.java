@@ -0,0 +1,24 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberDashboardDto {
+  private String name;
+  private String roleType;
+  private int sprintCount;
+  private int taskCount;
+  private double capacityHours;
+  private long capacityStoryPoints;
+  private double committedStoryPoints;
+  private double completedStoryPoints;
+  private double assignedHours;
+  private int warningDays;
+  private int errorDays;
+}
@@ -0,0 +1,27 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDashboardDto {
+  private String projectId;
+  private int sprintCount;
+  private int taskCount;
+  private int completedTaskCount;
+  private double committedStoryPoints;
+  private double completedStoryPoints;
+  private double capacityHours;
+  private long capacityStoryPoints;
+  private double assignedHours;
+  private int warningDays;
+  private int errorDays;
+  private List<SprintDashboardDto> sprints;
+  private List<MemberDashboardDto> members;
+}
@@ -0,0 +1,18 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectForecastDto {
+  private String projectId;
+  private int runs;
+  private ForecastCalibrationDto calibration;
+  private List<SprintForecastDto> sprints;
+}
@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintCloneRequestDto {
+  private String title;
+  private String startDate;
+  private Boolean includeUnfinishedTasks;
+}
@@ -0,0 +1,33 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintDashboardDto {
+  private String id;
+  private String title;
+  private String startDate;
+  private String endDate;
+  private String status;
+  private String updatedAt;
+  private int workingDays;
+  private int memberCount;
+  private int eventCount;
+  private int taskCount;
+  private int completedTaskCount;
+  private double committedStoryPoints;
+  private double completedStoryPoints;
+  private double assignedHours;
+  private int warningDays;
+  private int errorDays;
+  private double capacityHours;
+  private long capacityStoryPoints;
+  private List<MemberDashboardDto> members;
+}
@@ -0,0 +1,27 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintForecastDto {
+  private String sprintId;
+  private String title;
+  private String endDate;
+  private int runs;
+  private int workers;
+  private long elapsedMillis;
+  private int remainingTaskCount;
+  private String p50;
+  private String p85;
+  private String p95;
+  private double onTimeProbability;
+  private ForecastCalibrationDto calibration;
+  private List<TaskForecastDto> tasks;
+}
@@ -17,4 +17,5 @@ public class SprintMetaDto {
   private String updatedAt;
   private String status;
   private String projectId;
+  private SprintSummaryDto summary;
 }
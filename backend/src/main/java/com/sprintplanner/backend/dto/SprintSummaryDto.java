@@ -0,0 +1,25 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintSummaryDto {
+  private Map<String, Integer> taskCountByStatus;
+  private int taskCount;
+  private double totalStoryPoints;
+  private double completedStoryPoints;
+  private int memberCount;
+  private int eventCount;
+  private int workingDays;
+  private int teamCapacityMinutes;
+  private long teamCapacityStoryPoints;
+  private int overdueTaskCount;
+  private String computedFinishDate;
+}
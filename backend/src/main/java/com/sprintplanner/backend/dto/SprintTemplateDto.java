@@ -0,0 +1,23 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintTemplateDto {
+  private String id;
+  private String projectId;
+  private String name;
+  private String sourceSprintId;
+  private boolean includesTasks;
+  private int durationDays;
+  private int memberCount;
+  private int eventCount;
+  private int taskCount;
+  private String createdAt;
+}
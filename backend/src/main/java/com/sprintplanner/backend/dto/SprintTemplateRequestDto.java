@@ -0,0 +1,16 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintTemplateRequestDto {
+  private String name;
+  private String sprintId;
+  private Boolean includeUnfinishedTasks;
+}
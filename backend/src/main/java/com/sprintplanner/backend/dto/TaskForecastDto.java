@@ -0,0 +1,21 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskForecastDto {
+  private String taskId;
+  private String name;
+  private String assigneeMemberName;
+  private String dueDate;
+  private String p50;
+  private String p85;
+  private String p95;
+  private Double onTimeProbability;
+}
@@ -0,0 +1,24 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequestDto {
+  private String q;
+  private String projectId;
+  private String assignee;
+  private String status;
+  private String sprintStatus;
+  private String dueFrom;
+  private String dueTo;
+  private String dependsOn;
+  private Boolean late;
+  private Integer page;
+  private Integer size;
+}
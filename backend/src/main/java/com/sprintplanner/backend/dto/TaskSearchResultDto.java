@@ -0,0 +1,27 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDto {
+  private String sprintId;
+  private String projectId;
+  private String sprintTitle;
+  private String sprintStatus;
+  private String taskId;
+  private String name;
+  private String assigneeMemberName;
+  private String status;
+  private double storyPoints;
+  private String dueDate;
+  private String computedEndDate;
+  private boolean late;
+  private List<String> dependencies;
+}
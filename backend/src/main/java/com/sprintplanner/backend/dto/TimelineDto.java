@@ -0,0 +1,21 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineDto {
+  private String sprintId;
+  private String from;
+  private String to;
+  private String member;
+  private List<String> members;
+  private List<TimelineTaskDto> tasks;
+  private List<int[]> bars;
+}
@@ -0,0 +1,19 @@
+package com.sprintplanner.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineTaskDto {
+  private String id;
+  private String name;
+  private String assigneeMemberName;
+  private String status;
+  private String computedStartDate;
+  private String computedEndDate;
+}
@@ -0,0 +1,28 @@
+package com.sprintplanner.backend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadDto {
+  private String sprintId;
+  private String startDate;
+  private int dayCount;
+  private double warningLimit;
+  private double errorLimit;
+  private List<String> members;
+  private List<Boolean> counted;
+  private List<int[]> capacity;
+  private List<int[]> load;
+  private List<int[]> levels;
+  private List<int[]> totals;
+  private int warningDays;
+  private int errorDays;
+  private String updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.domain.BurndownSeries;
+import com.sprintplanner.backend.domain.TaskStatusEvent;
+import com.sprintplanner.backend.repository.BurndownSeriesRepository;
+import com.sprintplanner.backend.repository.TaskStatusEventRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FollowUpEntityComponent {
+  private final BurndownSeriesRepository burndownSeriesRepository;
+  private final TaskStatusEventRepository taskStatusEventRepository;
+  private final MongoTemplate mongoTemplate;
+
+  public FollowUpEntityComponent(
+    BurndownSeriesRepository burndownSeriesRepository,
+    TaskStatusEventRepository taskStatusEventRepository,
+    MongoTemplate mongoTemplate
+  ) {
+    this.burndownSeriesRepository = burndownSeriesRepository;
+    this.taskStatusEventRepository = taskStatusEventRepository;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public Optional<BurndownSeries> findSeries(String sprintId) {
+    return burndownSeriesRepository.findById(sprintId);
+  }
+
+  public BurndownSeries saveSeries(BurndownSeries series) {
+    return burndownSeriesRepository.save(series);
+  }
+
+  public void appendEvents(List<TaskStatusEvent> events) {
+    if (!events.isEmpty()) {
+      mongoTemplate.insertAll(events);
+    }
+  }
+
+  public void deleteBySprintId(String sprintId) {
+    burndownSeriesRepository.deleteById(sprintId);
+    taskStatusEventRepository.deleteBySprintId(sprintId);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    burndownSeriesRepository.deleteByProjectId(projectId);
+    taskStatusEventRepository.deleteByProjectId(projectId);
+  }
+}
@@ -0,0 +1,57 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.domain.HolidayCalendar;
+import com.sprintplanner.backend.repository.HolidayCalendarRepository;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HolidayCalendarEntityComponent {
+  public static final String ORGANIZATION_SCOPE = "organization";
+  public static final String PROJECT_SCOPE = "project";
+
+  private final HolidayCalendarRepository holidayCalendarRepository;
+  private final MongoTemplate mongoTemplate;
+
+  public HolidayCalendarEntityComponent(HolidayCalendarRepository holidayCalendarRepository, MongoTemplate mongoTemplate) {
+    this.holidayCalendarRepository = holidayCalendarRepository;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public Optional<HolidayCalendar> findOrganization() {
+    return holidayCalendarRepository.findById(ORGANIZATION_SCOPE);
+  }
+
+  public Optional<HolidayCalendar> findByProjectId(String projectId) {
+    return holidayCalendarRepository.findById(projectCalendarId(projectId));
+  }
+
+  public Map<String, Instant> findUpdatedAt(List<String> ids) {
+    Query query = new Query(Criteria.where("_id").in(ids));
+    query.fields().include("updatedAt");
+    Map<String, Instant> updatedAt = new HashMap<>();
+    for (HolidayCalendar calendar : mongoTemplate.find(query, HolidayCalendar.class)) {
+      updatedAt.put(calendar.getId(), calendar.getUpdatedAt());
+    }
+    return updatedAt;
+  }
+
+  public HolidayCalendar save(HolidayCalendar calendar) {
+    return holidayCalendarRepository.save(calendar);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    holidayCalendarRepository.deleteByProjectId(projectId);
+  }
+
+  public String projectCalendarId(String projectId) {
+    return PROJECT_SCOPE + ":" + projectId;
+  }
+}
@@ -0,0 +1,134 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.domain.Job;
+import com.sprintplanner.backend.repository.JobRepository;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class JobEntityComponent {
+  private final JobRepository jobRepository;
+  private final MongoTemplate mongoTemplate;
+
+  public JobEntityComponent(JobRepository jobRepository, MongoTemplate mongoTemplate) {
+    this.jobRepository = jobRepository;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public Job insert(Job job) {
+    return jobRepository.insert(job);
+  }
+
+  public Job getRequired(String id) {
+    return jobRepository.findById(id)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job não encontrado."));
+  }
+
+  public List<Job> findQueued() {
+    return jobRepository.findByStatusIn(List.of(Job.QUEUED));
+  }
+
+  public List<Job> findExpiredLeases(Instant now) {
+    return mongoTemplate.find(new Query(expiredLease(now)), Job.class);
+  }
+
+  public Job requeueExpired(String id, Instant now) {
+    return modify(
+      Criteria.where("_id").is(id).andOperator(expiredLease(now)),
+      new Update()
+        .set("status", Job.QUEUED)
+        .set("message", "Retomado após expirar a execução anterior.")
+        .unset("owner")
+        .unset("leaseUntil")
+    );
+  }
+
+  public Job claim(String id, String owner, Instant leaseUntil) {
+    return modify(
+      Criteria.where("_id").is(id).and("status").is(Job.QUEUED).and("cancelRequested").ne(true),
+      new Update()
+        .set("status", Job.RUNNING)
+        .set("owner", owner)
+        .set("leaseUntil", leaseUntil)
+        .set("startedAt", DateTimeUtil.now())
+        .inc("attempts", 1)
+    );
+  }
+
+  public Job updateProgress(String id, String owner, Instant leaseUntil, double progress, String message) {
+    return modify(
+      owned(id, owner),
+      new Update().set("progress", progress).set("message", message).set("leaseUntil", leaseUntil)
+    );
+  }
+
+  public void renewLeases(Collection<String> ids, String owner, Instant leaseUntil) {
+    mongoTemplate.updateMulti(
+      new Query(Criteria.where("_id").in(ids).and("status").is(Job.RUNNING).and("owner").is(owner)),
+      new Update().set("leaseUntil", leaseUntil),
+      Job.class
+    );
+  }
+
+  public Job complete(String id, String owner, Map<String, Object> result) {
+    return finish(id, owner, new Update()
+      .set("status", Job.SUCCEEDED)
+      .set("progress", 1.0)
+      .set("result", result)
+      .set("error", null));
+  }
+
+  public Job fail(String id, String owner, String error) {
+    return finish(id, owner, new Update().set("status", Job.FAILED).set("error", error));
+  }
+
+  public Job markCancelled(String id, String owner) {
+    return finish(id, owner, new Update().set("status", Job.CANCELLED));
+  }
+
+  public Job cancelQueued(String id) {
+    return modify(
+      Criteria.where("_id").is(id).and("status").is(Job.QUEUED),
+      new Update().set("status", Job.CANCELLED).set("cancelRequested", true).set("finishedAt", DateTimeUtil.now())
+    );
+  }
+
+  public Job requestCancel(String id) {
+    return modify(Criteria.where("_id").is(id).and("status").is(Job.RUNNING), new Update().set("cancelRequested", true));
+  }
+
+  private Job finish(String id, String owner, Update update) {
+    return modify(owned(id, owner), update.set("finishedAt", DateTimeUtil.now()).unset("leaseUntil"));
+  }
+
+  private Criteria owned(String id, String owner) {
+    return Criteria.where("_id").is(id).and("status").is(Job.RUNNING).and("owner").is(owner);
+  }
+
+  private Criteria expiredLease(Instant now) {
+    return new Criteria().andOperator(
+      Criteria.where("status").is(Job.RUNNING),
+      new Criteria().orOperator(Criteria.where("leaseUntil").lt(now), Criteria.where("leaseUntil").is(null))
+    );
+  }
+
+  private Job modify(Criteria criteria, Update update) {
+    return mongoTemplate.findAndModify(
+      new Query(criteria),
+      update.set("updatedAt", DateTimeUtil.now()),
+      FindAndModifyOptions.options().returnNew(true),
+      Job.class
+    );
+  }
+}
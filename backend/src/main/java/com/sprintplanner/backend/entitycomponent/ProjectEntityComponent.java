@@ -1,10 +1,13 @@
 package com.sprintplanner.backend.entitycomponent;
 
+import com.sprintplanner.backend.component.MongoReadRouter;
 import com.sprintplanner.backend.domain.Project;
 import com.sprintplanner.backend.repository.ProjectRepository;
 import com.sprintplanner.backend.util.DateTimeUtil;
 import com.sprintplanner.backend.validators.ProjectValidator;
 import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -13,14 +16,21 @@ import org.springframework.web.server.ResponseStatusException;
 public class ProjectEntityComponent {
   private final ProjectRepository projectRepository;
   private final ProjectValidator projectValidator;
+  private final MongoReadRouter mongoReadRouter;
 
-  public ProjectEntityComponent(ProjectRepository projectRepository, ProjectValidator projectValidator) {
+  public ProjectEntityComponent(
+    ProjectRepository projectRepository,
+    ProjectValidator projectValidator,
+    MongoReadRouter mongoReadRouter
+  ) {
     this.projectRepository = projectRepository;
     this.projectValidator = projectValidator;
+    this.mongoReadRouter = mongoReadRouter;
   }
 
   public List<Project> findAllByUpdatedAtDesc() {
-    return projectRepository.findAllByOrderByUpdatedAtDesc();
+    Query query = new Query().with(Sort.by(Sort.Direction.DESC, "updatedAt"));
+    return mongoReadRouter.forProjects().find(query, Project.class);
   }
 
   public Project getRequired(String id) {
@@ -29,11 +39,14 @@ public class ProjectEntityComponent {
   }
 
   public Project save(Project project) {
-    return projectRepository.save(project);
+    Project saved = projectRepository.save(project);
+    mongoReadRouter.recordProjectWrite(saved.getId());
+    return saved;
   }
 
   public void deleteById(String id) {
     projectRepository.deleteById(id);
+    mongoReadRouter.recordProjectWrite(id);
   }
 
   public void ensureExists(String projectId) {
@@ -44,7 +57,7 @@ public class ProjectEntityComponent {
       .id(projectId)
       .name("Projeto sem título")
       .status("active")
-      .updatedAt(DateTimeUtil.nowIso())
+      .updatedAt(DateTimeUtil.now())
       .build();
     projectValidator.validateOrThrow(project);
     save(project);
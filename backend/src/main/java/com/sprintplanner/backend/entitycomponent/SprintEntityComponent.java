@@ -1,8 +1,19 @@
 package com.sprintplanner.backend.entitycomponent;
 
+import com.sprintplanner.backend.component.MongoReadRouter;
 import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.StateSection;
 import com.sprintplanner.backend.repository.SprintRepository;
+import com.sprintplanner.backend.util.IdGenerator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -10,29 +21,207 @@ import org.springframework.web.server.ResponseStatusException;
 @Component
 public class SprintEntityComponent {
   private final SprintRepository sprintRepository;
+  private final MongoTemplate mongoTemplate;
+  private final MongoReadRouter mongoReadRouter;
 
-  public SprintEntityComponent(SprintRepository sprintRepository) {
+  public SprintEntityComponent(
+    SprintRepository sprintRepository,
+    MongoTemplate mongoTemplate,
+    MongoReadRouter mongoReadRouter
+  ) {
     this.sprintRepository = sprintRepository;
+    this.mongoTemplate = mongoTemplate;
+    this.mongoReadRouter = mongoReadRouter;
   }
 
   public List<SprintDocument> findByProjectIdOrderByUpdatedAtDesc(String projectId) {
     return sprintRepository.findByProjectIdOrderByUpdatedAtDesc(projectId);
   }
 
+  public List<SprintDocument> findMetaByProjectId(
+    String projectId,
+    String status,
+    String sort,
+    Instant createdFrom,
+    Instant createdTo
+  ) {
+    Query query = metaQuery(projectId, status, sort);
+    query.fields().exclude("summary.members");
+    MongoTemplate template = mongoReadRouter.forProject(projectId);
+    if (createdFrom == null && createdTo == null) {
+      return template.find(query, SprintDocument.class);
+    }
+    query.addCriteria(createdRange(createdFrom, createdTo));
+    return template.find(query, SprintDocument.class).stream()
+      .filter(sprint -> IdGenerator.createdAt(sprint.getId()).isPresent())
+      .toList();
+  }
+
+  public List<SprintDocument> findSummariesByProjectId(String projectId) {
+    return mongoReadRouter.forProject(projectId).find(metaQuery(projectId, null, null), SprintDocument.class);
+  }
+
+  public List<String> findIds(String projectId) {
+    Query query = projectId == null || projectId.isBlank()
+      ? new Query()
+      : new Query(Criteria.where("projectId").is(projectId));
+    query.fields().include("_id");
+    return mongoTemplate.find(query, SprintDocument.class).stream()
+      .map(SprintDocument::getId)
+      .toList();
+  }
+
+  public List<SprintDocument> findAllById(List<String> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<SprintDocument> result = new ArrayList<>();
+    sprintRepository.findAllById(ids).forEach(result::add);
+    return result;
+  }
+
   public SprintDocument getRequired(String id) {
     return sprintRepository.findById(id)
       .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Sprint não encontrada."));
   }
 
+  public SprintDocument getRequiredMeta(String id) {
+    Query query = new Query(Criteria.where("_id").is(id));
+    query.fields().exclude("state");
+    SprintDocument sprint = mongoTemplate.findOne(query, SprintDocument.class);
+    if (sprint == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sprint não encontrada.");
+    }
+    return sprint;
+  }
+
+  public Instant getRequiredUpdatedAt(String id) {
+    Query query = new Query(Criteria.where("_id").is(id));
+    query.fields().include("updatedAt");
+    SprintDocument sprint = mongoTemplate.findOne(query, SprintDocument.class);
+    if (sprint == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sprint não encontrada.");
+    }
+    return sprint.getUpdatedAt();
+  }
+
+  public SprintDocument getRequiredSections(String id, Collection<StateSection> sections) {
+    SprintDocument sprint = mongoTemplate.findOne(sectionsQuery(Criteria.where("_id").is(id), sections), SprintDocument.class);
+    if (sprint == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sprint não encontrada.");
+    }
+    return sprint;
+  }
+
+  public List<SprintDocument> findMetaById(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Query query = new Query(Criteria.where("_id").in(ids));
+    query.fields().exclude("state");
+    return mongoTemplate.find(query, SprintDocument.class);
+  }
+
+  public Stream<SprintDocument> streamById(Collection<String> ids, Collection<StateSection> sections) {
+    if (ids.isEmpty()) {
+      return Stream.empty();
+    }
+    Criteria criteria = Criteria.where("_id").in(ids);
+    Query query = sections.isEmpty() ? new Query(criteria) : sectionsQuery(criteria, sections);
+    return mongoTemplate.stream(query, SprintDocument.class);
+  }
+
+  public SprintDocument getRequiredTimeline(String id) {
+    Query query = new Query(Criteria.where("_id").is(id));
+    query.fields()
+      .include("projectId")
+      .include("updatedAt")
+      .include("state.sprint")
+      .include("state.tasks.items.id")
+      .include("state.tasks.items.name")
+      .include("state.tasks.items.assigneeMemberName")
+      .include("state.tasks.items.status")
+      .include("state.tasks.items.storyPoints")
+      .include("state.tasks.items.computedStartDate")
+      .include("state.tasks.items.computedEndDate")
+      .include("state.tasks.items.computedTimeline.date")
+      .include("state.tasks.items.computedTimeline.startTime")
+      .include("state.tasks.items.computedTimeline.endTime")
+      .include("state.tasks.items.computedTimeline.minutes");
+    SprintDocument sprint = mongoTemplate.findOne(query, SprintDocument.class);
+    if (sprint == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Sprint não encontrada.");
+    }
+    return sprint;
+  }
+
   public SprintDocument save(SprintDocument sprint) {
-    return sprintRepository.save(sprint);
+    SprintDocument saved = sprintRepository.save(sprint);
+    mongoReadRouter.recordWrite(saved.getProjectId());
+    return saved;
+  }
+
+  public SprintDocument insert(SprintDocument sprint) {
+    SprintDocument saved = mongoTemplate.insert(sprint);
+    mongoReadRouter.recordWrite(saved.getProjectId());
+    return saved;
   }
 
-  public void deleteById(String id) {
-    sprintRepository.deleteById(id);
+  public void delete(SprintDocument sprint) {
+    sprintRepository.deleteById(sprint.getId());
+    mongoReadRouter.recordWrite(sprint.getProjectId());
   }
 
   public void deleteByProjectId(String projectId) {
     sprintRepository.deleteByProjectId(projectId);
+    mongoReadRouter.recordWrite(projectId);
+  }
+
+  private Query sectionsQuery(Criteria criteria, Collection<StateSection> sections) {
+    Query query = new Query(criteria);
+    query.fields()
+      .include("projectId")
+      .include("title")
+      .include("startDate")
+      .include("endDate")
+      .include("status")
+      .include("updatedAt")
+      .include("summary");
+    for (StateSection section : sections) {
+      query.fields().include(section.field());
+    }
+    return query;
+  }
+
+  private Criteria createdRange(Instant createdFrom, Instant createdTo) {
+    Criteria id = Criteria.where("_id");
+    id.gte(IdGenerator.lowerBound(IdGenerator.SPRINT_PREFIX, createdFrom == null ? Instant.EPOCH : createdFrom));
+    if (createdTo != null) {
+      id.lt(IdGenerator.lowerBound(IdGenerator.SPRINT_PREFIX, createdTo));
+    }
+    return id;
+  }
+
+  private Query metaQuery(String projectId, String status, String sort) {
+    Query query = new Query(Criteria.where("projectId").is(projectId));
+    if (status != null && !status.isBlank()) {
+      query.addCriteria(Criteria.where("status").is(status));
+    }
+    query.fields().exclude("state");
+    query.with(resolveListSort(sort));
+    return query;
+  }
+
+  private Sort resolveListSort(String sort) {
+    if ("startDate".equals(sort)) {
+      return Sort.by(Sort.Direction.ASC, "startDate");
+    }
+    if ("computedFinishDate".equals(sort)) {
+      return Sort.by(Sort.Direction.ASC, "summary.computedFinishDate");
+    }
+    if ("overdueTaskCount".equals(sort)) {
+      return Sort.by(Sort.Direction.DESC, "summary.overdueTaskCount");
+    }
+    return Sort.by(Sort.Direction.DESC, "updatedAt");
   }
 }
@@ -0,0 +1,47 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.domain.SprintTemplate;
+import com.sprintplanner.backend.repository.SprintTemplateRepository;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class SprintTemplateEntityComponent {
+  private final SprintTemplateRepository sprintTemplateRepository;
+  private final MongoTemplate mongoTemplate;
+
+  public SprintTemplateEntityComponent(SprintTemplateRepository sprintTemplateRepository, MongoTemplate mongoTemplate) {
+    this.sprintTemplateRepository = sprintTemplateRepository;
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  public List<SprintTemplate> findMetaByProjectId(String projectId) {
+    Query query = new Query(Criteria.where("projectId").is(projectId))
+      .with(Sort.by(Sort.Direction.ASC, "name"));
+    query.fields().exclude("state");
+    return mongoTemplate.find(query, SprintTemplate.class);
+  }
+
+  public SprintTemplate getRequired(String id) {
+    return sprintTemplateRepository.findById(id)
+      .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Modelo de sprint não encontrado."));
+  }
+
+  public SprintTemplate insert(SprintTemplate template) {
+    return mongoTemplate.insert(template);
+  }
+
+  public void deleteById(String id) {
+    sprintTemplateRepository.deleteById(id);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    sprintTemplateRepository.deleteByProjectId(projectId);
+  }
+}
@@ -0,0 +1,86 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.component.MongoReadRouter;
+import com.sprintplanner.backend.component.TaskIndexFactory;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import com.sprintplanner.backend.repository.TaskIndexRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskIndexEntityComponent {
+  private final TaskIndexRepository taskIndexRepository;
+  private final TaskIndexFactory taskIndexFactory;
+  private final MongoTemplate mongoTemplate;
+  private final MongoReadRouter mongoReadRouter;
+
+  public TaskIndexEntityComponent(
+    TaskIndexRepository taskIndexRepository,
+    TaskIndexFactory taskIndexFactory,
+    MongoTemplate mongoTemplate,
+    MongoReadRouter mongoReadRouter
+  ) {
+    this.taskIndexRepository = taskIndexRepository;
+    this.taskIndexFactory = taskIndexFactory;
+    this.mongoTemplate = mongoTemplate;
+    this.mongoReadRouter = mongoReadRouter;
+  }
+
+  public void replaceForSprint(SprintDocument sprint) {
+    List<TaskIndexEntry> entries = taskIndexFactory.build(sprint);
+    List<String> ids = new ArrayList<>(entries.size());
+    if (!entries.isEmpty()) {
+      BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskIndexEntry.class);
+      for (TaskIndexEntry entry : entries) {
+        ids.add(entry.getId());
+        bulk.replaceOne(new Query(Criteria.where("_id").is(entry.getId())), entry, FindAndReplaceOptions.options().upsert());
+      }
+      bulk.execute();
+    }
+    mongoTemplate.remove(
+      new Query(Criteria.where("sprintId").is(sprint.getId()).and("_id").nin(ids)),
+      TaskIndexEntry.class
+    );
+  }
+
+  public void deleteBySprintId(String sprintId) {
+    taskIndexRepository.deleteBySprintId(sprintId);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    taskIndexRepository.deleteByProjectId(projectId);
+  }
+
+  public List<TaskIndexEntry> find(String projectId, Query query) {
+    return mongoReadRouter.forProject(projectId).find(query, TaskIndexEntry.class);
+  }
+
+  public Stream<TaskIndexEntry> streamByProjectId(String projectId) {
+    Query query = new Query(Criteria.where("projectId").is(projectId))
+      .with(Sort.by("sprintId", "taskId"));
+    return mongoReadRouter.forProject(projectId).stream(query, TaskIndexEntry.class);
+  }
+
+  public List<TaskIndexEntry> findCompletedByProjectId(String projectId) {
+    Query query = new Query(Criteria.where("projectId").is(projectId)
+      .and("status").is("done")
+      .and("completedAt").ne(null)
+      .and("computedStartDate").ne(null)
+      .and("computedEndDate").ne(null));
+    query.fields().include("computedStartDate", "computedEndDate", "completedAt", "storyPoints");
+    return mongoReadRouter.forProject(projectId).find(query, TaskIndexEntry.class);
+  }
+
+  public long count(String projectId, Query query) {
+    return mongoReadRouter.forProject(projectId).count(Query.of(query).limit(0).skip(0), TaskIndexEntry.class);
+  }
+}
@@ -0,0 +1,42 @@
+package com.sprintplanner.backend.entitycomponent;
+
+import com.sprintplanner.backend.component.MongoReadRouter;
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import com.sprintplanner.backend.repository.WorkloadMatrixRepository;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkloadEntityComponent {
+  private final WorkloadMatrixRepository workloadMatrixRepository;
+  private final MongoReadRouter mongoReadRouter;
+
+  public WorkloadEntityComponent(WorkloadMatrixRepository workloadMatrixRepository, MongoReadRouter mongoReadRouter) {
+    this.workloadMatrixRepository = workloadMatrixRepository;
+    this.mongoReadRouter = mongoReadRouter;
+  }
+
+  public Optional<WorkloadMatrix> find(String sprintId) {
+    return workloadMatrixRepository.findById(sprintId);
+  }
+
+  public List<WorkloadMatrix> findByProjectId(String projectId) {
+    Query query = new Query(Criteria.where("projectId").is(projectId));
+    return mongoReadRouter.forProject(projectId).find(query, WorkloadMatrix.class);
+  }
+
+  public WorkloadMatrix save(WorkloadMatrix matrix) {
+    return workloadMatrixRepository.save(matrix);
+  }
+
+  public void deleteBySprintId(String sprintId) {
+    workloadMatrixRepository.deleteById(sprintId);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    workloadMatrixRepository.deleteByProjectId(projectId);
+  }
+}
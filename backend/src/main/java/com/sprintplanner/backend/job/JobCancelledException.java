@@ -0,0 +1,7 @@
+package com.sprintplanner.backend.job;
+
+public class JobCancelledException extends RuntimeException {
+  public JobCancelledException() {
+    super("Job cancelado.");
+  }
+}
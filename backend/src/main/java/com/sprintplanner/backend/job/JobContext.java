@@ -0,0 +1,40 @@
+package com.sprintplanner.backend.job;
+
+import com.sprintplanner.backend.domain.Job;
+import java.util.Map;
+
+public class JobContext {
+  private final Job job;
+  private final JobRunner runner;
+  private volatile boolean cancelled;
+
+  JobContext(Job job, JobRunner runner) {
+    this.job = job;
+    this.runner = runner;
+  }
+
+  public String jobId() {
+    return job.getId();
+  }
+
+  public String param(String name) {
+    Map<String, String> params = job.getParams();
+    return params == null ? null : params.get(name);
+  }
+
+  public void progress(double fraction, String message) {
+    double bounded = Math.max(0, Math.min(1, fraction));
+    job.setProgress(bounded);
+    job.setMessage(message);
+    if (runner.reportProgress(job)) {
+      cancelled = true;
+    }
+    checkCancelled();
+  }
+
+  public void checkCancelled() {
+    if (cancelled || Thread.currentThread().isInterrupted()) {
+      throw new JobCancelledException();
+    }
+  }
+}
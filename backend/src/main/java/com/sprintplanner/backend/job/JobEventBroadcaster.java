@@ -0,0 +1,62 @@
+package com.sprintplanner.backend.job;
+
+import com.sprintplanner.backend.dto.JobDto;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class JobEventBroadcaster {
+  private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+  public void register(String jobId, SseEmitter emitter) {
+    emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+    Runnable remove = () -> remove(jobId, emitter);
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(error -> remove.run());
+  }
+
+  public void publish(JobDto job) {
+    List<SseEmitter> listeners = emitters.get(job.getId());
+    if (listeners == null) {
+      return;
+    }
+    for (SseEmitter emitter : listeners) {
+      send(emitter, job);
+    }
+  }
+
+  public void finish(JobDto job) {
+    List<SseEmitter> listeners = emitters.remove(job.getId());
+    if (listeners == null) {
+      return;
+    }
+    for (SseEmitter emitter : listeners) {
+      if (send(emitter, job)) {
+        emitter.complete();
+      }
+    }
+  }
+
+  public boolean send(SseEmitter emitter, JobDto job) {
+    try {
+      emitter.send(SseEmitter.event().name(job.getStatus()).id(String.valueOf(job.getUpdatedAt())).data(job));
+      return true;
+    } catch (IOException | IllegalStateException ex) {
+      emitter.completeWithError(ex);
+      return false;
+    }
+  }
+
+  private void remove(String jobId, SseEmitter emitter) {
+    List<SseEmitter> listeners = emitters.get(jobId);
+    if (listeners != null) {
+      listeners.remove(emitter);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.sprintplanner.backend.job;
+
+import java.util.Map;
+
+public interface JobHandler {
+  String type();
+
+  String validate(Map<String, String> params);
+
+  Map<String, Object> run(JobContext context) throws Exception;
+}
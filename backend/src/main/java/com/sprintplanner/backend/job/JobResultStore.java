@@ -0,0 +1,46 @@
+package com.sprintplanner.backend.job;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.mongodb.client.gridfs.GridFSUploadStream;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Component
+public class JobResultStore {
+  private final GridFSBucket jobResultBucket;
+
+  public JobResultStore(GridFSBucket jobResultBucket) {
+    this.jobResultBucket = jobResultBucket;
+  }
+
+  public Map<String, Object> store(String jobId, String fileName, String contentType, StreamingResponseBody body)
+    throws IOException {
+    GridFSUploadOptions options = new GridFSUploadOptions()
+      .metadata(new Document("jobId", jobId).append("contentType", contentType));
+    GridFSUploadStream upload = jobResultBucket.openUploadStream(fileName, options);
+    try (OutputStream out = new BufferedOutputStream(upload, 64 * 1024)) {
+      body.writeTo(out);
+    } catch (IOException | RuntimeException ex) {
+      jobResultBucket.delete(upload.getObjectId());
+      throw ex;
+    }
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("fileId", upload.getObjectId().toHexString());
+    result.put("fileName", fileName);
+    result.put("contentType", contentType);
+    return result;
+  }
+
+  public GridFSDownloadStream open(String fileId) {
+    return jobResultBucket.openDownloadStream(new ObjectId(fileId));
+  }
+}
@@ -0,0 +1,218 @@
+package com.sprintplanner.backend.job;
+
+import com.sprintplanner.backend.config.JobProperties;
+import com.sprintplanner.backend.domain.Job;
+import com.sprintplanner.backend.entitycomponent.JobEntityComponent;
+import com.sprintplanner.backend.parser.JobParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobRunner {
+  private static final Logger LOG = LoggerFactory.getLogger(JobRunner.class);
+
+  private final JobEntityComponent jobEntityComponent;
+  private final JobParser jobParser;
+  private final JobEventBroadcaster jobEventBroadcaster;
+  private final JobProperties jobProperties;
+  private final Map<String, JobHandler> handlers = new HashMap<>();
+  private final Map<String, Long> lastPersisted = new ConcurrentHashMap<>();
+  private final Set<String> running = ConcurrentHashMap.newKeySet();
+  private final String owner = UUID.randomUUID().toString();
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final ThreadPoolExecutor executor;
+  private final ScheduledThreadPoolExecutor leaseExecutor;
+
+  public JobRunner(
+    JobEntityComponent jobEntityComponent,
+    JobParser jobParser,
+    JobEventBroadcaster jobEventBroadcaster,
+    JobProperties jobProperties,
+    List<JobHandler> jobHandlers
+  ) {
+    this.jobEntityComponent = jobEntityComponent;
+    this.jobParser = jobParser;
+    this.jobEventBroadcaster = jobEventBroadcaster;
+    this.jobProperties = jobProperties;
+    for (JobHandler handler : jobHandlers) {
+      handlers.put(handler.type(), handler);
+    }
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+      jobProperties.getMaxConcurrent(),
+      jobProperties.getMaxConcurrent(),
+      60,
+      TimeUnit.SECONDS,
+      new PriorityBlockingQueue<>(),
+      runnable -> {
+        Thread thread = new Thread(runnable, "job-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+      }
+    );
+    this.executor.allowCoreThreadTimeOut(true);
+    this.leaseExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "job-lease");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public JobHandler handler(String type) {
+    return type == null ? null : handlers.get(type);
+  }
+
+  public boolean tryReserve() {
+    while (true) {
+      int current = pending.get();
+      if (current >= jobProperties.getMaxQueued()) {
+        return false;
+      }
+      if (pending.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  public void cancelReservation() {
+    pending.decrementAndGet();
+  }
+
+  public void enqueueReserved(Job job) {
+    executor.execute(new QueuedJob(job.getId(), job.getPriority(), sequence.incrementAndGet()));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeUnfinished() {
+    try {
+      for (Job job : jobEntityComponent.findQueued()) {
+        pending.incrementAndGet();
+        enqueueReserved(job);
+      }
+    } catch (RuntimeException ex) {
+      LOG.warn("Could not resume pending jobs: {}", ex.getMessage());
+    }
+    long interval = Math.max(1, jobProperties.getLeaseMillis() / 3);
+    leaseExecutor.scheduleWithFixedDelay(this::maintainLeases, 0, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    leaseExecutor.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  private void maintainLeases() {
+    try {
+      if (!running.isEmpty()) {
+        jobEntityComponent.renewLeases(List.copyOf(running), owner, leaseUntil());
+      }
+      Instant now = DateTimeUtil.now();
+      for (Job job : jobEntityComponent.findExpiredLeases(now)) {
+        Job requeued = jobEntityComponent.requeueExpired(job.getId(), now);
+        if (requeued != null) {
+          pending.incrementAndGet();
+          enqueueReserved(requeued);
+        }
+      }
+    } catch (RuntimeException ex) {
+      LOG.warn("Could not maintain job leases: {}", ex.getMessage());
+    }
+  }
+
+  private Instant leaseUntil() {
+    return DateTimeUtil.now().plusMillis(jobProperties.getLeaseMillis());
+  }
+
+  boolean reportProgress(Job job) {
+    jobEventBroadcaster.publish(jobParser.toDto(job));
+    long now = System.currentTimeMillis();
+    Long last = lastPersisted.get(job.getId());
+    if (last != null && now - last < jobProperties.getProgressIntervalMillis()) {
+      return false;
+    }
+    lastPersisted.put(job.getId(), now);
+    Job stored = jobEntityComponent.updateProgress(job.getId(), owner, leaseUntil(), job.getProgress(), job.getMessage());
+    return stored == null || stored.isCancelRequested();
+  }
+
+  private void run(String jobId) {
+    Job job = jobEntityComponent.claim(jobId, owner, leaseUntil());
+    if (job == null) {
+      return;
+    }
+    running.add(jobId);
+    jobEventBroadcaster.publish(jobParser.toDto(job));
+    JobHandler handler = handlers.get(job.getType());
+    Job finished;
+    try {
+      if (handler == null) {
+        throw new IllegalStateException("Tipo de job desconhecido: " + job.getType());
+      }
+      finished = jobEntityComponent.complete(jobId, owner, handler.run(new JobContext(job, this)));
+    } catch (JobCancelledException ex) {
+      if (executor.isShutdown()) {
+        return;
+      }
+      finished = jobEntityComponent.markCancelled(jobId, owner);
+    } catch (Exception ex) {
+      if (executor.isShutdown()) {
+        return;
+      }
+      LOG.warn("Job {} ({}) failed", jobId, job.getType(), ex);
+      finished = jobEntityComponent.fail(jobId, owner, ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage());
+    } finally {
+      running.remove(jobId);
+      lastPersisted.remove(jobId);
+    }
+    if (finished != null) {
+      jobEventBroadcaster.finish(jobParser.toDto(finished));
+    }
+  }
+
+  private final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+    private final String jobId;
+    private final int priority;
+    private final long order;
+
+    private QueuedJob(String jobId, int priority, long order) {
+      this.jobId = jobId;
+      this.priority = priority;
+      this.order = order;
+    }
+
+    @Override
+    public void run() {
+      pending.decrementAndGet();
+      JobRunner.this.run(jobId);
+    }
+
+    @Override
+    public int compareTo(QueuedJob other) {
+      if (priority != other.priority) {
+        return Integer.compare(other.priority, priority);
+      }
+      return Long.compare(order, other.order);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.sprintplanner.backend.job;
+
+import com.sprintplanner.backend.report.ReportExport;
+import com.sprintplanner.backend.service.ReportService;
+import com.sprintplanner.backend.validators.ReportRequestValidator;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectReportJobHandler implements JobHandler {
+  private final ReportService reportService;
+  private final ReportRequestValidator reportRequestValidator;
+  private final JobResultStore jobResultStore;
+
+  public ProjectReportJobHandler(
+    ReportService reportService,
+    ReportRequestValidator reportRequestValidator,
+    JobResultStore jobResultStore
+  ) {
+    this.reportService = reportService;
+    this.reportRequestValidator = reportRequestValidator;
+    this.jobResultStore = jobResultStore;
+  }
+
+  @Override
+  public String type() {
+    return "project-report";
+  }
+
+  @Override
+  public String validate(Map<String, String> params) {
+    String projectId = params.get("projectId");
+    if (projectId == null || projectId.isBlank()) {
+      return "projectId é obrigatório para gerar o relatório.";
+    }
+    return reportRequestValidator.validateFormat(params.getOrDefault("format", "xlsx"));
+  }
+
+  @Override
+  public Map<String, Object> run(JobContext context) throws Exception {
+    String format = context.param("format") == null ? "xlsx" : context.param("format");
+    ReportExport export = reportService.projectReport(context.param("projectId"), format);
+    context.progress(0.1, "Gerando relatório.");
+    Map<String, Object> result = jobResultStore.store(
+      context.jobId(),
+      export.fileName(),
+      export.format().contentType(),
+      export.body()
+    );
+    context.progress(1, "Relatório gerado.");
+    return result;
+  }
+}
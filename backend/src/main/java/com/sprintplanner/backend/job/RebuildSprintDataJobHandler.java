@@ -0,0 +1,47 @@
+package com.sprintplanner.backend.job;
+
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.service.SprintService;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RebuildSprintDataJobHandler implements JobHandler {
+  private final SprintEntityComponent sprintEntityComponent;
+  private final SprintService sprintService;
+
+  public RebuildSprintDataJobHandler(SprintEntityComponent sprintEntityComponent, SprintService sprintService) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.sprintService = sprintService;
+  }
+
+  @Override
+  public String type() {
+    return "rebuild-sprint-data";
+  }
+
+  @Override
+  public String validate(Map<String, String> params) {
+    return null;
+  }
+
+  @Override
+  public Map<String, Object> run(JobContext context) {
+    String sprintId = context.param("sprintId");
+    List<String> ids = sprintId == null || sprintId.isBlank()
+      ? sprintEntityComponent.findIds(context.param("projectId"))
+      : List.of(sprintId);
+    int rebuilt = 0;
+    for (String id : ids) {
+      context.checkCancelled();
+      sprintService.rebuildDerivedData(id);
+      rebuilt++;
+      context.progress(rebuilt / (double) ids.size(), rebuilt + " de " + ids.size() + " sprints atualizadas.");
+    }
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("sprintCount", rebuilt);
+    return result;
+  }
+}
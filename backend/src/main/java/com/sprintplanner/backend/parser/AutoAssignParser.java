@@ -0,0 +1,78 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.dto.AutoAssignPlanDto;
+import com.sprintplanner.backend.dto.AutoAssignmentDto;
+import com.sprintplanner.backend.scheduling.AssignmentObjective;
+import com.sprintplanner.backend.scheduling.AssignmentProblem;
+import com.sprintplanner.backend.scheduling.AssignmentResult;
+import com.sprintplanner.backend.util.EpochDays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AutoAssignParser {
+  public AutoAssignPlanDto toDto(
+    String sprintId,
+    AssignmentObjective objective,
+    long timeBudgetMillis,
+    AssignmentProblem problem,
+    AssignmentResult result
+  ) {
+    AssignmentProblem.Evaluator evaluator = problem.evaluator(objective);
+    evaluator.cost(result.lanes(), result.rank());
+    List<AutoAssignmentDto> assignments = new ArrayList<>(problem.taskCount());
+    int changed = 0;
+    int finishDay = -1;
+    for (int task = 0; task < problem.taskCount(); task++) {
+      TaskItem item = problem.task(task);
+      String proposed = problem.laneName(result.lanes()[task]);
+      String current = item.getAssigneeMemberName() == null || item.getAssigneeMemberName().isBlank()
+        ? null
+        : item.getAssigneeMemberName();
+      boolean taskChanged = !Objects.equals(current, proposed);
+      if (taskChanged) {
+        changed++;
+      }
+      int duration = problem.duration(task);
+      if (duration > 0) {
+        finishDay = Math.max(finishDay, evaluator.endDay(task));
+      }
+      assignments.add(AutoAssignmentDto.builder()
+        .taskId(item.getId())
+        .name(item.getName())
+        .currentAssigneeMemberName(current)
+        .proposedAssigneeMemberName(proposed)
+        .changed(taskChanged)
+        .fixed(problem.fixedLane(task) != AssignmentProblem.FREE)
+        .durationMinutes(duration)
+        .startDate(duration > 0 ? EpochDays.format(problem.dayEpoch(evaluator.startDay(task))) : null)
+        .endDate(duration > 0 ? EpochDays.format(problem.dayEpoch(evaluator.endDay(task))) : null)
+        .dueDate(item.getDueDate())
+        .latenessDays(round(evaluator.lateness(task, result.lanes()[task])))
+        .build());
+    }
+    return AutoAssignPlanDto.builder()
+      .sprintId(sprintId)
+      .objective(objective.value())
+      .timeBudgetMillis(timeBudgetMillis)
+      .elapsedMillis(result.elapsedMillis())
+      .workers(result.workers())
+      .iterations(result.iterations())
+      .greedyCost(round(result.greedyCost()))
+      .cost(round(result.cost()))
+      .makespanDays(round(evaluator.makespan()))
+      .finishDate(finishDay < 0 ? null : EpochDays.format(problem.dayEpoch(finishDay)))
+      .totalLatenessDays(round(evaluator.lateness()))
+      .lateTaskCount(evaluator.lateCount())
+      .changedTaskCount(changed)
+      .assignments(assignments)
+      .build();
+  }
+
+  private double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -0,0 +1,43 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.BurndownDay;
+import com.sprintplanner.backend.domain.BurndownSeries;
+import com.sprintplanner.backend.dto.BurndownDto;
+import com.sprintplanner.backend.dto.BurndownPointDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BurndownParser {
+  public BurndownDto toDto(BurndownSeries series, String today) {
+    if (series == null) {
+      return null;
+    }
+    List<BurndownPointDto> points = new ArrayList<>();
+    for (BurndownDay day : series.getDays() == null ? List.<BurndownDay>of() : series.getDays()) {
+      boolean future = today != null && day.getDate().compareTo(today) > 0;
+      points.add(BurndownPointDto.builder()
+        .date(day.getDate())
+        .workingDay(day.isWorkingDay())
+        .idealRemainingStoryPoints(day.getIdealRemainingStoryPoints())
+        .remainingStoryPoints(future ? null : day.getRemainingStoryPoints())
+        .remainingTasks(future ? null : day.getRemainingTasks())
+        .burnedStoryPoints(future ? null : day.getBurnedStoryPoints())
+        .burnedTasks(future ? null : day.getBurnedTasks())
+        .completedStoryPoints(future ? null : day.getCompletedStoryPoints())
+        .completedTasks(future ? null : day.getCompletedTasks())
+        .build());
+    }
+    return BurndownDto.builder()
+      .sprintId(series.getSprintId())
+      .startDate(series.getStartDate())
+      .endDate(series.getEndDate())
+      .totalStoryPoints(series.getTotalStoryPoints())
+      .totalTasks(series.getTotalTasks())
+      .updatedAt(DateTimeUtil.toIso(series.getUpdatedAt()))
+      .points(points)
+      .build();
+  }
+}
@@ -0,0 +1,106 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.dto.ForecastCalibrationDto;
+import com.sprintplanner.backend.dto.SprintForecastDto;
+import com.sprintplanner.backend.dto.TaskForecastDto;
+import com.sprintplanner.backend.scheduling.AssignmentProblem;
+import com.sprintplanner.backend.scheduling.DurationCalibration;
+import com.sprintplanner.backend.scheduling.ForecastResult;
+import com.sprintplanner.backend.util.EpochDays;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ForecastParser {
+  private static final double P50 = 0.50;
+  private static final double P85 = 0.85;
+  private static final double P95 = 0.95;
+
+  public SprintForecastDto toSprintDto(
+    SprintDocument sprint,
+    AssignmentProblem problem,
+    ForecastResult result,
+    DurationCalibration calibration,
+    boolean includeTasks
+  ) {
+    int remaining = 0;
+    for (int task = 0; task < problem.taskCount(); task++) {
+      if (problem.duration(task) > 0) {
+        remaining++;
+      }
+    }
+    int endDay = EpochDays.parseIsoDate(sprint.getEndDate());
+    int lastSprintDay = EpochDays.isPresent(endDay) ? problem.dayIndexOnOrAfter(endDay + 1) - 1 : -1;
+    SprintForecastDto dto = SprintForecastDto.builder()
+      .sprintId(sprint.getId())
+      .title(sprint.getTitle())
+      .endDate(sprint.getEndDate())
+      .runs(result.runs())
+      .workers(result.workers())
+      .elapsedMillis(result.elapsedMillis())
+      .remainingTaskCount(remaining)
+      .onTimeProbability(remaining == 0 ? 1 : round(result.finishProbability(lastSprintDay)))
+      .calibration(toCalibrationDto(calibration))
+      .build();
+    if (remaining > 0) {
+      dto.setP50(date(problem, result.finishPercentile(P50)));
+      dto.setP85(date(problem, result.finishPercentile(P85)));
+      dto.setP95(date(problem, result.finishPercentile(P95)));
+    }
+    if (!includeTasks) {
+      return dto;
+    }
+    List<TaskForecastDto> tasks = new ArrayList<>(problem.taskCount());
+    for (int task = 0; task < problem.taskCount(); task++) {
+      TaskItem item = problem.task(task);
+      boolean open = problem.duration(task) > 0;
+      boolean hasDue = EpochDays.isPresent(EpochDays.parseIsoDate(item.getDueDate()));
+      tasks.add(TaskForecastDto.builder()
+        .taskId(item.getId())
+        .name(item.getName())
+        .assigneeMemberName(item.getAssigneeMemberName())
+        .dueDate(item.getDueDate())
+        .p50(open ? date(problem, result.taskPercentile(task, P50)) : null)
+        .p85(open ? date(problem, result.taskPercentile(task, P85)) : null)
+        .p95(open ? date(problem, result.taskPercentile(task, P95)) : null)
+        .onTimeProbability(open && hasDue
+          ? round(result.taskProbability(task, (int) Math.ceil(problem.dueDays(task)) - 1))
+          : null)
+        .build());
+    }
+    dto.setTasks(tasks);
+    return dto;
+  }
+
+  public SprintForecastDto toEmptySprintDto(SprintDocument sprint, DurationCalibration calibration) {
+    return SprintForecastDto.builder()
+      .sprintId(sprint.getId())
+      .title(sprint.getTitle())
+      .endDate(sprint.getEndDate())
+      .onTimeProbability(1)
+      .calibration(toCalibrationDto(calibration))
+      .tasks(new ArrayList<>())
+      .build();
+  }
+
+  public ForecastCalibrationDto toCalibrationDto(DurationCalibration calibration) {
+    return ForecastCalibrationDto.builder()
+      .source(calibration.fromHistory() ? "history" : "default")
+      .sampleCount(calibration.sampleCount())
+      .mu(round(calibration.mu()))
+      .sigma(round(calibration.sigma()))
+      .medianMultiplier(round(Math.exp(calibration.mu())))
+      .build();
+  }
+
+  private String date(AssignmentProblem problem, int dayIndex) {
+    return EpochDays.format(problem.dayEpoch(dayIndex));
+  }
+
+  private double round(double value) {
+    return Math.round(value * 1000) / 1000.0;
+  }
+}
@@ -0,0 +1,38 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.Holiday;
+import com.sprintplanner.backend.domain.HolidayCalendar;
+import com.sprintplanner.backend.dto.HolidayCalendarDto;
+import com.sprintplanner.backend.dto.HolidayDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HolidayCalendarParser {
+  public List<Holiday> toDomain(List<HolidayDto> days) {
+    if (days == null) {
+      return List.of();
+    }
+    return days.stream()
+      .map(day -> day == null ? null : Holiday.builder().date(day.getDate()).description(day.getDescription()).build())
+      .toList();
+  }
+
+  public HolidayCalendarDto toDto(HolidayCalendar calendar) {
+    if (calendar == null) {
+      return null;
+    }
+    List<HolidayDto> days = calendar.getDays() == null
+      ? List.of()
+      : calendar.getDays().stream()
+        .map(day -> HolidayDto.builder().date(day.getDate()).description(day.getDescription()).build())
+        .toList();
+    return HolidayCalendarDto.builder()
+      .scope(calendar.getScope())
+      .projectId(calendar.getProjectId())
+      .days(days)
+      .updatedAt(DateTimeUtil.toIso(calendar.getUpdatedAt()))
+      .build();
+  }
+}
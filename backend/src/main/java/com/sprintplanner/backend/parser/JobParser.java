@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.Job;
+import com.sprintplanner.backend.dto.JobDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobParser {
+  public JobDto toDto(Job job) {
+    if (job == null) {
+      return null;
+    }
+    return JobDto.builder()
+      .id(job.getId())
+      .type(job.getType())
+      .status(job.getStatus())
+      .priority(job.getPriority())
+      .params(job.getParams())
+      .progress(job.getProgress())
+      .message(job.getMessage())
+      .result(job.getResult())
+      .error(job.getError())
+      .attempts(job.getAttempts())
+      .createdAt(DateTimeUtil.toIso(job.getCreatedAt()))
+      .startedAt(DateTimeUtil.toIso(job.getStartedAt()))
+      .finishedAt(DateTimeUtil.toIso(job.getFinishedAt()))
+      .updatedAt(DateTimeUtil.toIso(job.getUpdatedAt()))
+      .build();
+  }
+}
@@ -0,0 +1,65 @@
+package com.sprintplanner.backend.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.sprintplanner.backend.config.StatePayloadProperties;
+import java.io.IOException;
+
+class LimitedJsonParser extends JsonParserDelegate {
+  private final StatePayloadProperties limits;
+  private int totalSegments;
+
+  LimitedJsonParser(JsonParser delegate, StatePayloadProperties limits) {
+    super(delegate);
+    this.limits = limits;
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    JsonToken token = super.nextToken();
+    if (token == null || token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT || token == JsonToken.FIELD_NAME) {
+      return token;
+    }
+    JsonStreamContext context = getParsingContext();
+    JsonStreamContext container = token.isStructStart() ? context.getParent() : context;
+    if (container != null && container.inArray()) {
+      checkArrayElement(container);
+    }
+    return token;
+  }
+
+  private void checkArrayElement(JsonStreamContext array) throws StatePayloadLimitException {
+    JsonStreamContext owner = array.getParent();
+    String field = owner == null ? null : owner.getCurrentName();
+    if (field == null) {
+      return;
+    }
+    int count = array.getCurrentIndex() + 1;
+    if ("computedTimeline".equals(field)) {
+      totalSegments += 1;
+      ensure(count <= limits.getMaxSegmentsPerTask(), "Tarefa excede o limite de " + limits.getMaxSegmentsPerTask() + " segmentos.");
+      ensure(totalSegments <= limits.getMaxSegments(), "Estado excede o limite de " + limits.getMaxSegments() + " segmentos.");
+      return;
+    }
+    if (!"items".equals(field)) {
+      return;
+    }
+    JsonStreamContext section = owner.getParent();
+    String sectionName = section == null ? null : section.getCurrentName();
+    if ("tasks".equals(sectionName)) {
+      ensure(count <= limits.getMaxTasks(), "Estado excede o limite de " + limits.getMaxTasks() + " tarefas.");
+    } else if ("members".equals(sectionName)) {
+      ensure(count <= limits.getMaxMembers(), "Estado excede o limite de " + limits.getMaxMembers() + " membros.");
+    } else if ("events".equals(sectionName)) {
+      ensure(count <= limits.getMaxEvents(), "Estado excede o limite de " + limits.getMaxEvents() + " eventos.");
+    }
+  }
+
+  private void ensure(boolean condition, String message) throws StatePayloadLimitException {
+    if (!condition) {
+      throw new StatePayloadLimitException(message);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.sprintplanner.backend.parser;
 import com.sprintplanner.backend.domain.Project;
 import com.sprintplanner.backend.dto.ProjectInputDto;
 import com.sprintplanner.backend.dto.ProjectMetaDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,7 +32,7 @@ public class ProjectParser {
       .endDate(input.getEndDate())
       .description(input.getDescription())
       .status(input.getStatus())
-      .updatedAt(input.getUpdatedAt())
+      .updatedAt(DateTimeUtil.parseInstant(input.getUpdatedAt()))
       .build();
   }
 
@@ -46,7 +47,7 @@ public class ProjectParser {
       .endDate(project.getEndDate())
       .description(project.getDescription())
       .status(project.getStatus())
-      .updatedAt(project.getUpdatedAt())
+      .updatedAt(DateTimeUtil.toIso(project.getUpdatedAt()))
       .build();
   }
 }
@@ -1,8 +1,11 @@
 package com.sprintplanner.backend.parser;
 
 import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.SprintSummary;
 import com.sprintplanner.backend.dto.SprintMetaDto;
 import com.sprintplanner.backend.dto.SprintStateResponseDto;
+import com.sprintplanner.backend.dto.SprintSummaryDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,9 +25,29 @@ public class SprintParser {
       .title(document.getTitle())
       .startDate(document.getStartDate())
       .endDate(document.getEndDate())
-      .updatedAt(document.getUpdatedAt())
+      .updatedAt(DateTimeUtil.toIso(document.getUpdatedAt()))
       .status(document.getStatus())
       .projectId(document.getProjectId())
+      .summary(toSummaryDto(document.getSummary()))
+      .build();
+  }
+
+  public SprintSummaryDto toSummaryDto(SprintSummary summary) {
+    if (summary == null) {
+      return null;
+    }
+    return SprintSummaryDto.builder()
+      .taskCountByStatus(summary.getTaskCountByStatus())
+      .taskCount(summary.getTaskCount())
+      .totalStoryPoints(summary.getTotalStoryPoints())
+      .completedStoryPoints(summary.getCompletedStoryPoints())
+      .memberCount(summary.getMemberCount())
+      .eventCount(summary.getEventCount())
+      .workingDays(summary.getWorkingDays())
+      .teamCapacityMinutes(summary.getTeamCapacityMinutes())
+      .teamCapacityStoryPoints(summary.getTeamCapacityStoryPoints())
+      .overdueTaskCount(summary.getOverdueTaskCount())
+      .computedFinishDate(summary.getComputedFinishDate())
       .build();
   }
 
@@ -0,0 +1,27 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.SprintTemplate;
+import com.sprintplanner.backend.dto.SprintTemplateDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SprintTemplateParser {
+  public SprintTemplateDto toDto(SprintTemplate template) {
+    if (template == null) {
+      return null;
+    }
+    return SprintTemplateDto.builder()
+      .id(template.getId())
+      .projectId(template.getProjectId())
+      .name(template.getName())
+      .sourceSprintId(template.getSourceSprintId())
+      .includesTasks(template.isIncludesTasks())
+      .durationDays(template.getDurationDays())
+      .memberCount(template.getMemberCount())
+      .eventCount(template.getEventCount())
+      .taskCount(template.getTaskCount())
+      .createdAt(DateTimeUtil.toIso(template.getCreatedAt()))
+      .build();
+  }
+}
@@ -1,23 +1,30 @@
 package com.sprintplanner.backend.parser;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintplanner.backend.component.StateInterner;
 import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.StateSection;
 import com.sprintplanner.backend.dto.RootPersistedStateDto;
+import com.sprintplanner.backend.util.SprintDateIndex;
 import org.springframework.stereotype.Component;
 
 @Component
 public class StateParser {
   private final ObjectMapper objectMapper;
+  private final StateInterner stateInterner;
 
-  public StateParser(ObjectMapper objectMapper) {
+  public StateParser(ObjectMapper objectMapper, StateInterner stateInterner) {
     this.objectMapper = objectMapper;
+    this.stateInterner = stateInterner;
   }
 
   public RootPersistedState toDomain(RootPersistedStateDto dto) {
     if (dto == null) {
       return null;
     }
-    return objectMapper.convertValue(dto, RootPersistedState.class);
+    RootPersistedState state = stateInterner.intern(objectMapper.convertValue(dto, RootPersistedState.class));
+    state.setDateIndex(SprintDateIndex.build(state));
+    return state;
   }
 
   public RootPersistedStateDto toDto(RootPersistedState state) {
@@ -26,4 +33,20 @@ public class StateParser {
     }
     return objectMapper.convertValue(state, RootPersistedStateDto.class);
   }
+
+  public Object toSectionDto(RootPersistedState state, StateSection section) {
+    RootPersistedStateDto dto = toDto(state);
+    if (dto == null) {
+      return null;
+    }
+    return switch (section) {
+      case SPRINT -> dto.getSprint();
+      case CALENDAR -> dto.getCalendar();
+      case EVENTS -> dto.getEvents();
+      case MEMBERS -> dto.getMembers();
+      case TASKS -> dto.getTasks();
+      case CONFIG -> dto.getConfig();
+      case PLANNING_LIFECYCLE -> dto.getPlanningLifecycle();
+    };
+  }
 }
@@ -0,0 +1,9 @@
+package com.sprintplanner.backend.parser;
+
+import java.io.IOException;
+
+public class StatePayloadLimitException extends IOException {
+  public StatePayloadLimitException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,106 @@
+package com.sprintplanner.backend.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintplanner.backend.component.MetricsRecorder;
+import com.sprintplanner.backend.config.StatePayloadProperties;
+import com.sprintplanner.backend.dto.SprintUpdateStateRequestDto;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class StatePayloadReader {
+  private final ObjectMapper objectMapper;
+  private final StatePayloadProperties limits;
+  private final MetricsRecorder metricsRecorder;
+  private final JsonFactory jsonFactory;
+
+  public StatePayloadReader(ObjectMapper objectMapper, StatePayloadProperties limits, MetricsRecorder metricsRecorder) {
+    this.objectMapper = objectMapper;
+    this.limits = limits;
+    this.metricsRecorder = metricsRecorder;
+    this.jsonFactory = objectMapper.getFactory().copy();
+    this.jsonFactory.setStreamReadConstraints(StreamReadConstraints.builder()
+      .maxStringLength(limits.getMaxStringLength())
+      .maxNestingDepth(limits.getMaxNestingDepth())
+      .build());
+  }
+
+  public SprintUpdateStateRequestDto read(InputStream body, long contentLength) throws IOException {
+    if (contentLength > limits.getMaxBodyBytes()) {
+      throw tooLarge("Corpo da requisição excede o limite de " + limits.getMaxBodyBytes() + " bytes.");
+    }
+    CountingInputStream counted = new CountingInputStream(body, limits.getMaxBodyBytes());
+    try (JsonParser parser = new LimitedJsonParser(jsonFactory.createParser(counted), limits)) {
+      SprintUpdateStateRequestDto request = objectMapper.readValue(parser, SprintUpdateStateRequestDto.class);
+      metricsRecorder.recordStateBytes("updateSprintState", counted.count);
+      return request;
+    } catch (IOException ex) {
+      StatePayloadLimitException limitException = findCause(ex, StatePayloadLimitException.class);
+      if (limitException != null) {
+        throw tooLarge(limitException.getMessage());
+      }
+      if (findCause(ex, StreamConstraintsException.class) != null) {
+        throw tooLarge("Corpo da requisição excede os limites de texto ou aninhamento.");
+      }
+      throw ex;
+    }
+  }
+
+  private ResponseStatusException tooLarge(String message) {
+    return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, message);
+  }
+
+  private <T extends Throwable> T findCause(Throwable error, Class<T> type) {
+    Throwable current = error;
+    while (current != null) {
+      if (type.isInstance(current)) {
+        return type.cast(current);
+      }
+      current = current.getCause();
+    }
+    return null;
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long count;
+
+    private CountingInputStream(InputStream in, long maxBytes) {
+      super(in);
+      this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value >= 0) {
+        add(1);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        add(read);
+      }
+      return read;
+    }
+
+    private void add(long bytes) throws StatePayloadLimitException {
+      count += bytes;
+      if (count > maxBytes) {
+        throw new StatePayloadLimitException("Corpo da requisição excede o limite de " + maxBytes + " bytes.");
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import com.sprintplanner.backend.dto.TaskSearchResultDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskIndexParser {
+  public TaskSearchResultDto toDto(TaskIndexEntry entry) {
+    if (entry == null) {
+      return null;
+    }
+    return TaskSearchResultDto.builder()
+      .sprintId(entry.getSprintId())
+      .projectId(entry.getProjectId())
+      .sprintTitle(entry.getSprintTitle())
+      .sprintStatus(entry.getSprintStatus())
+      .taskId(entry.getTaskId())
+      .name(entry.getName())
+      .assigneeMemberName(entry.getAssigneeMemberName())
+      .status(entry.getStatus())
+      .storyPoints(entry.getStoryPoints())
+      .dueDate(entry.getDueDate())
+      .computedEndDate(entry.getComputedEndDate())
+      .late(entry.isLate())
+      .dependencies(entry.getDependencies())
+      .build();
+  }
+}
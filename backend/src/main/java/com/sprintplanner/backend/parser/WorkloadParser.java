@@ -0,0 +1,60 @@
+package com.sprintplanner.backend.parser;
+
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import com.sprintplanner.backend.domain.WorkloadRow;
+import com.sprintplanner.backend.dto.WorkloadDto;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkloadParser {
+  public WorkloadDto toDto(WorkloadMatrix matrix) {
+    if (matrix == null) {
+      return null;
+    }
+    List<WorkloadRow> rows = matrix.getRows() == null ? List.of() : matrix.getRows();
+    WorkloadDto dto = WorkloadDto.builder()
+      .sprintId(matrix.getSprintId())
+      .startDate(matrix.getStartDate())
+      .dayCount(matrix.getDayCount())
+      .warningLimit(matrix.getWarningLimit())
+      .errorLimit(matrix.getErrorLimit())
+      .members(new ArrayList<>(rows.size()))
+      .counted(new ArrayList<>(rows.size()))
+      .capacity(new ArrayList<>(rows.size()))
+      .load(new ArrayList<>(rows.size()))
+      .levels(new ArrayList<>(rows.size()))
+      .totals(new ArrayList<>(rows.size()))
+      .updatedAt(DateTimeUtil.toIso(matrix.getSprintUpdatedAt()))
+      .build();
+    for (WorkloadRow row : rows) {
+      dto.getMembers().add(row.getMember());
+      dto.getCounted().add(row.isCounted());
+      dto.getCapacity().add(toArray(row.getCapacityMinutes()));
+      dto.getLoad().add(toArray(row.getLoadMinutes()));
+      dto.getLevels().add(toArray(row.getLevels()));
+      dto.getTotals().add(new int[] {
+        row.getTotalCapacityMinutes(),
+        row.getTotalLoadMinutes(),
+        row.getWarningDays(),
+        row.getErrorDays()
+      });
+      dto.setWarningDays(dto.getWarningDays() + row.getWarningDays());
+      dto.setErrorDays(dto.getErrorDays() + row.getErrorDays());
+    }
+    return dto;
+  }
+
+  private int[] toArray(List<Integer> values) {
+    if (values == null) {
+      return new int[0];
+    }
+    int[] array = new int[values.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = values.get(i) == null ? 0 : values.get(i);
+    }
+    return array;
+  }
+}
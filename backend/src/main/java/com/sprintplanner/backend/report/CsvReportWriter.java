@@ -0,0 +1,59 @@
+package com.sprintplanner.backend.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CsvReportWriter implements ReportWriter {
+  private static final char BOM = '\uFEFF';
+
+  @Override
+  public ReportFormat format() {
+    return ReportFormat.CSV;
+  }
+
+  @Override
+  public void write(ReportDocument document, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    ReportSection section = document.primary();
+    writer.write(BOM);
+    writeRow(writer, section.headers());
+    try (Stream<List<Object>> rows = section.rows().get()) {
+      rows.forEach(row -> {
+        try {
+          writeRow(writer, row);
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    writer.flush();
+  }
+
+  private void writeRow(Writer writer, List<?> values) throws IOException {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escape(ReportValues.text(values.get(i))));
+    }
+    writer.write("\r\n");
+  }
+
+  private String escape(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
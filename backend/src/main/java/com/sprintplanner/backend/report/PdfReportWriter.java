@@ -0,0 +1,79 @@
+package com.sprintplanner.backend.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PdfReportWriter implements ReportWriter {
+  private static final int FLUSH_ROWS = 100;
+
+  @Override
+  public ReportFormat format() {
+    return ReportFormat.PDF;
+  }
+
+  @Override
+  public void write(ReportDocument report, OutputStream out) throws IOException {
+    Document document = new Document(PageSize.A4.rotate(), 24, 24, 24, 24);
+    Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    Font sectionFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
+    Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8);
+    Font cellFont = FontFactory.getFont(FontFactory.HELVETICA, 8);
+    try {
+      PdfWriter writer = PdfWriter.getInstance(document, out);
+      writer.setCloseStream(false);
+      document.open();
+      document.add(new Paragraph(report.title(), titleFont));
+      for (ReportSection section : report.sections()) {
+        Paragraph heading = new Paragraph(section.name(), sectionFont);
+        heading.setSpacingBefore(12);
+        heading.setSpacingAfter(6);
+        document.add(heading);
+        writeTable(document, section, headerFont, cellFont);
+      }
+      document.close();
+    } catch (DocumentException ex) {
+      throw new IOException(ex);
+    }
+  }
+
+  private void writeTable(Document document, ReportSection section, Font headerFont, Font cellFont) {
+    PdfPTable table = new PdfPTable(section.headers().size());
+    table.setWidthPercentage(100);
+    table.setHeaderRows(1);
+    table.setComplete(false);
+    for (String header : section.headers()) {
+      PdfPCell cell = new PdfPCell(new Phrase(header, headerFont));
+      cell.setHorizontalAlignment(Element.ALIGN_CENTER);
+      table.addCell(cell);
+    }
+    int[] pending = {0};
+    try (Stream<List<Object>> rows = section.rows().get()) {
+      rows.forEach(values -> {
+        for (Object value : values) {
+          table.addCell(new Phrase(ReportValues.text(value), cellFont));
+        }
+        if (++pending[0] >= FLUSH_ROWS) {
+          document.add(table);
+          pending[0] = 0;
+        }
+      });
+    }
+    table.setComplete(true);
+    document.add(table);
+  }
+}
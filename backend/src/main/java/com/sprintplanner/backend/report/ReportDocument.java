@@ -0,0 +1,9 @@
+package com.sprintplanner.backend.report;
+
+import java.util.List;
+
+public record ReportDocument(String title, List<ReportSection> sections, int primarySection) {
+  public ReportSection primary() {
+    return sections.get(primarySection);
+  }
+}
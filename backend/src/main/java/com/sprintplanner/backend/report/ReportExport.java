@@ -0,0 +1,6 @@
+package com.sprintplanner.backend.report;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public record ReportExport(String fileName, ReportFormat format, StreamingResponseBody body) {
+}
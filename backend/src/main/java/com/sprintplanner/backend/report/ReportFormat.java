@@ -0,0 +1,37 @@
+package com.sprintplanner.backend.report;
+
+import java.util.Locale;
+
+public enum ReportFormat {
+  CSV("csv", "text/csv; charset=UTF-8"),
+  XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+  PDF("pdf", "application/pdf");
+
+  private final String extension;
+  private final String contentType;
+
+  ReportFormat(String extension, String contentType) {
+    this.extension = extension;
+    this.contentType = contentType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public static ReportFormat from(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    for (ReportFormat format : values()) {
+      if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+        return format;
+      }
+    }
+    return null;
+  }
+}
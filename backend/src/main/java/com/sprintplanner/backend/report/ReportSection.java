@@ -0,0 +1,8 @@
+package com.sprintplanner.backend.report;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public record ReportSection(String name, List<String> headers, Supplier<Stream<List<Object>>> rows) {
+}
@@ -0,0 +1,30 @@
+package com.sprintplanner.backend.report;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+final class ReportValues {
+  private ReportValues() {
+  }
+
+  static String text(Object value) {
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof Double || value instanceof Float) {
+      double number = ((Number) value).doubleValue();
+      if (Double.isNaN(number) || Double.isInfinite(number)) {
+        return "";
+      }
+      return BigDecimal.valueOf(number).setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+    if (value instanceof Boolean flag) {
+      return flag ? "sim" : "não";
+    }
+    if (value instanceof Collection<?> items) {
+      return String.join(", ", items.stream().map(ReportValues::text).toList());
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,10 @@
+package com.sprintplanner.backend.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ReportWriter {
+  ReportFormat format();
+
+  void write(ReportDocument document, OutputStream out) throws IOException;
+}
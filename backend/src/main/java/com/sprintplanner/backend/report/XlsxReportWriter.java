@@ -0,0 +1,70 @@
+package com.sprintplanner.backend.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+@Component
+public class XlsxReportWriter implements ReportWriter {
+  private static final int ROW_WINDOW = 200;
+  private static final int MAX_ROWS = 1_048_575;
+
+  @Override
+  public ReportFormat format() {
+    return ReportFormat.XLSX;
+  }
+
+  @Override
+  public void write(ReportDocument document, OutputStream out) throws IOException {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+    workbook.setCompressTempFiles(true);
+    try {
+      CellStyle headerStyle = workbook.createCellStyle();
+      Font bold = workbook.createFont();
+      bold.setBold(true);
+      headerStyle.setFont(bold);
+      for (ReportSection section : document.sections()) {
+        writeSheet(workbook.createSheet(WorkbookUtil.createSafeSheetName(section.name())), section, headerStyle);
+      }
+      workbook.write(out);
+      out.flush();
+    } finally {
+      workbook.close();
+    }
+  }
+
+  private void writeSheet(Sheet sheet, ReportSection section, CellStyle headerStyle) {
+    Row header = sheet.createRow(0);
+    for (int i = 0; i < section.headers().size(); i++) {
+      Cell cell = header.createCell(i);
+      cell.setCellValue(section.headers().get(i));
+      cell.setCellStyle(headerStyle);
+    }
+    int[] rowIndex = {1};
+    try (Stream<List<Object>> rows = section.rows().get()) {
+      rows.limit(MAX_ROWS).forEach(values -> {
+        Row row = sheet.createRow(rowIndex[0]++);
+        for (int i = 0; i < values.size(); i++) {
+          setValue(row.createCell(i), values.get(i));
+        }
+      });
+    }
+  }
+
+  private void setValue(Cell cell, Object value) {
+    if (value instanceof Number number) {
+      cell.setCellValue(number.doubleValue());
+    } else if (value != null) {
+      cell.setCellValue(ReportValues.text(value));
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.BurndownSeries;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface BurndownSeriesRepository extends MongoRepository<BurndownSeries, String> {
+  void deleteByProjectId(String projectId);
+}
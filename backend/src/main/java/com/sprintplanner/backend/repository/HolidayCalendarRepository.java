@@ -0,0 +1,8 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.HolidayCalendar;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface HolidayCalendarRepository extends MongoRepository<HolidayCalendar, String> {
+  void deleteByProjectId(String projectId);
+}
@@ -0,0 +1,10 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.Job;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface JobRepository extends MongoRepository<Job, String> {
+  List<Job> findByStatusIn(Collection<String> statuses);
+}
@@ -0,0 +1,8 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.SprintTemplate;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface SprintTemplateRepository extends MongoRepository<SprintTemplate, String> {
+  void deleteByProjectId(String projectId);
+}
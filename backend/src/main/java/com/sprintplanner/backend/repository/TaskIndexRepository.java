@@ -0,0 +1,10 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface TaskIndexRepository extends MongoRepository<TaskIndexEntry, String> {
+  void deleteBySprintId(String sprintId);
+
+  void deleteByProjectId(String projectId);
+}
@@ -0,0 +1,10 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.TaskStatusEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface TaskStatusEventRepository extends MongoRepository<TaskStatusEvent, String> {
+  void deleteBySprintId(String sprintId);
+
+  void deleteByProjectId(String projectId);
+}
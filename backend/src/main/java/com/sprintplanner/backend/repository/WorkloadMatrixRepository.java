@@ -0,0 +1,8 @@
+package com.sprintplanner.backend.repository;
+
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface WorkloadMatrixRepository extends MongoRepository<WorkloadMatrix, String> {
+  void deleteByProjectId(String projectId);
+}
@@ -0,0 +1,30 @@
+package com.sprintplanner.backend.scheduling;
+
+import java.util.Locale;
+
+public enum AssignmentObjective {
+  MAKESPAN("makespan"),
+  LATENESS("lateness");
+
+  private final String value;
+
+  AssignmentObjective(String value) {
+    this.value = value;
+  }
+
+  public String value() {
+    return value;
+  }
+
+  public static AssignmentObjective from(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    for (AssignmentObjective objective : values()) {
+      if (objective.value.equals(value.trim().toLowerCase(Locale.ROOT))) {
+        return objective;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,447 @@
+package com.sprintplanner.backend.scheduling;
+
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.util.EpochDays;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class AssignmentProblem {
+  public static final int FREE = -1;
+  public static final int NO_LANE = -2;
+  static final long DAY_SCALE = 1_000_000L;
+
+  private final List<TaskItem> tasks;
+  private final String[] laneNames;
+  private final int[] candidateLanes;
+  private final int[][] laneCapacity;
+  private final int[] overflowCapacity;
+  private final int[] workingDays;
+  private final int horizonEnd;
+  private final int[] durations;
+  private final double[] dueDays;
+  private final int[] fixedLanes;
+  private final int[][] dependencies;
+  private final int[][] dependents;
+  private final int[] freeTasks;
+  private final int maxDays;
+
+  public AssignmentProblem(
+    List<TaskItem> tasks,
+    String[] laneNames,
+    int[] candidateLanes,
+    int[][] laneCapacity,
+    int[] overflowCapacity,
+    int[] workingDays,
+    int horizonEnd,
+    int[] durations,
+    double[] dueDays,
+    int[] fixedLanes,
+    int[][] dependencies
+  ) {
+    this.tasks = tasks;
+    this.laneNames = laneNames;
+    this.candidateLanes = candidateLanes;
+    this.laneCapacity = laneCapacity;
+    this.overflowCapacity = overflowCapacity;
+    this.workingDays = workingDays;
+    this.horizonEnd = horizonEnd;
+    this.durations = durations;
+    this.dueDays = dueDays;
+    this.fixedLanes = fixedLanes;
+    this.dependencies = dependencies;
+    this.maxDays = workingDays.length + 366;
+
+    int[] counts = new int[tasks.size()];
+    for (int[] predecessors : dependencies) {
+      for (int predecessor : predecessors) {
+        counts[predecessor]++;
+      }
+    }
+    this.dependents = new int[tasks.size()][];
+    for (int task = 0; task < counts.length; task++) {
+      dependents[task] = new int[counts[task]];
+    }
+    int[] filled = new int[tasks.size()];
+    for (int task = 0; task < dependencies.length; task++) {
+      for (int predecessor : dependencies[task]) {
+        dependents[predecessor][filled[predecessor]++] = task;
+      }
+    }
+    List<Integer> free = new ArrayList<>();
+    for (int task = 0; task < fixedLanes.length; task++) {
+      if (fixedLanes[task] == FREE) {
+        free.add(task);
+      }
+    }
+    this.freeTasks = free.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  public int taskCount() {
+    return tasks.size();
+  }
+
+  public TaskItem task(int task) {
+    return tasks.get(task);
+  }
+
+  public int laneCount() {
+    return laneNames.length;
+  }
+
+  public String laneName(int lane) {
+    return lane < 0 ? null : laneNames[lane];
+  }
+
+  public int candidateLaneCount() {
+    return candidateLanes.length;
+  }
+
+  public int freeTaskCount() {
+    return freeTasks.length;
+  }
+
+  public int fixedLane(int task) {
+    return fixedLanes[task];
+  }
+
+  public int duration(int task) {
+    return durations[task];
+  }
+
+  public double dueDays(int task) {
+    return dueDays[task];
+  }
+
+  public int dayEpoch(int dayIndex) {
+    if (dayIndex < workingDays.length) {
+      return workingDays[dayIndex];
+    }
+    int day = workingDays.length == 0 ? horizonEnd : workingDays[workingDays.length - 1];
+    if (!EpochDays.isPresent(day)) {
+      return EpochDays.NONE;
+    }
+    for (int index = workingDays.length - 1; index < dayIndex; ) {
+      day++;
+      if (!EpochDays.isWeekend(day)) {
+        index++;
+      }
+    }
+    return day;
+  }
+
+  public int horizonDays() {
+    return maxDays;
+  }
+
+  public int sprintDays() {
+    return workingDays.length;
+  }
+
+  public int dayIndexOnOrAfter(int epochDay) {
+    int position = Arrays.binarySearch(workingDays, epochDay);
+    int index = position >= 0 ? position : -position - 1;
+    if (index < workingDays.length) {
+      return index;
+    }
+    int last = workingDays.length == 0 ? horizonEnd : workingDays[workingDays.length - 1];
+    if (!EpochDays.isPresent(last) || !EpochDays.isPresent(epochDay)) {
+      return index;
+    }
+    return Math.min(maxDays, index + EpochDays.weekdaysBetween(last + 1, epochDay - 1));
+  }
+
+  public int[] initialLanes() {
+    return Arrays.copyOf(fixedLanes, fixedLanes.length);
+  }
+
+  public int[] initialRank() {
+    Integer[] order = new Integer[tasks.size()];
+    for (int task = 0; task < order.length; task++) {
+      order[task] = task;
+    }
+    Arrays.sort(order, (a, b) -> {
+      int byDue = Double.compare(dueDays[a], dueDays[b]);
+      if (byDue != 0) {
+        return byDue;
+      }
+      int byDependents = Integer.compare(dependents[b].length, dependents[a].length);
+      if (byDependents != 0) {
+        return byDependents;
+      }
+      int byDuration = Integer.compare(durations[a], durations[b]);
+      return byDuration != 0 ? byDuration : Integer.compare(a, b);
+    });
+    int[] rank = new int[order.length];
+    for (int position = 0; position < order.length; position++) {
+      rank[order[position]] = position;
+    }
+    return rank;
+  }
+
+  public Evaluator evaluator(AssignmentObjective objective) {
+    return new Evaluator(this, objective);
+  }
+
+  int freeTask(int position) {
+    return freeTasks[position];
+  }
+
+  int candidateLane(int position) {
+    return candidateLanes[position];
+  }
+
+  int capacity(int lane, int day) {
+    int[] capacity = laneCapacity[lane];
+    return day < capacity.length ? capacity[day] : overflowCapacity[lane];
+  }
+
+  public static final class Evaluator {
+    private final AssignmentProblem problem;
+    private final AssignmentObjective objective;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] pending;
+    private final boolean[] queued;
+    private final boolean[] done;
+    private final int[] heap;
+    private final long[] laneCursor;
+    private int[] durations;
+    private long release;
+    private int heapSize;
+    private long lastStart;
+    private double makespan;
+    private double lateness;
+    private int lateCount;
+
+    private Evaluator(AssignmentProblem problem, AssignmentObjective objective) {
+      int taskCount = problem.taskCount();
+      this.problem = problem;
+      this.objective = objective;
+      this.starts = new long[taskCount];
+      this.ends = new long[taskCount];
+      this.pending = new int[taskCount];
+      this.queued = new boolean[taskCount];
+      this.done = new boolean[taskCount];
+      this.heap = new int[taskCount];
+      this.laneCursor = new long[problem.laneCount()];
+      this.durations = problem.durations;
+    }
+
+    public double cost(int[] lanes, int[] rank) {
+      run(lanes, rank, false);
+      return score();
+    }
+
+    public double greedy(int[] lanes, int[] rank) {
+      run(lanes, rank, true);
+      return score();
+    }
+
+    public void simulate(int[] lanes, int[] rank, int[] sampledDurations, int releaseDay) {
+      durations = sampledDurations;
+      release = releaseDay * DAY_SCALE;
+      try {
+        run(lanes, rank, false);
+      } finally {
+        durations = problem.durations;
+        release = 0;
+      }
+    }
+
+    public double makespan() {
+      return makespan;
+    }
+
+    public double lateness() {
+      return lateness;
+    }
+
+    public int lateCount() {
+      return lateCount;
+    }
+
+    public int startDay(int task) {
+      return (int) (starts[task] / DAY_SCALE);
+    }
+
+    public int endDay(int task) {
+      return (int) (ends[task] / DAY_SCALE);
+    }
+
+    public double lateness(int task, int lane) {
+      return Math.max(0, endValue(ends[task], lane) - problem.dueDays[task]);
+    }
+
+    private double score() {
+      return objective == AssignmentObjective.LATENESS
+        ? lateness + makespan / 1000
+        : makespan + lateness / 1000;
+    }
+
+    private void run(int[] lanes, int[] rank, boolean choose) {
+      int taskCount = problem.taskCount();
+      Arrays.fill(laneCursor, 0);
+      heapSize = 0;
+      makespan = 0;
+      lateness = 0;
+      lateCount = 0;
+      for (int task = 0; task < taskCount; task++) {
+        pending[task] = problem.dependencies[task].length;
+        queued[task] = false;
+        done[task] = false;
+      }
+      for (int task = 0; task < taskCount; task++) {
+        if (pending[task] == 0) {
+          push(task, rank);
+        }
+      }
+      for (int scheduled = 0; scheduled < taskCount; scheduled++) {
+        if (heapSize == 0) {
+          push(lowestPending(rank), rank);
+        }
+        int task = pop(rank);
+        long ready = release;
+        for (int predecessor : problem.dependencies[task]) {
+          if (done[predecessor]) {
+            ready = Math.max(ready, ends[predecessor]);
+          }
+        }
+        if (choose && problem.fixedLanes[task] == FREE) {
+          lanes[task] = bestLane(task, ready);
+        }
+        place(task, lanes[task], ready);
+        done[task] = true;
+
+        double end = endValue(ends[task], lanes[task]);
+        makespan = Math.max(makespan, end);
+        double late = end - problem.dueDays[task];
+        if (late > 1e-9) {
+          lateness += late;
+          lateCount++;
+        }
+        for (int dependent : problem.dependents[task]) {
+          if (--pending[dependent] == 0 && !queued[dependent]) {
+            push(dependent, rank);
+          }
+        }
+      }
+    }
+
+    private int bestLane(int task, long ready) {
+      int best = problem.candidateLanes.length == 0 ? NO_LANE : problem.candidateLanes[0];
+      double bestEnd = Double.MAX_VALUE;
+      long bestCursor = Long.MAX_VALUE;
+      for (int lane : problem.candidateLanes) {
+        long end = consume(lane, Math.max(ready, laneCursor[lane]), durations[task]);
+        double value = endValue(end, lane);
+        if (value < bestEnd - 1e-9 || (Math.abs(value - bestEnd) <= 1e-9 && laneCursor[lane] < bestCursor)) {
+          best = lane;
+          bestEnd = value;
+          bestCursor = laneCursor[lane];
+        }
+      }
+      return best;
+    }
+
+    private void place(int task, int lane, long ready) {
+      int duration = durations[task];
+      if (duration <= 0 || lane < 0) {
+        starts[task] = ready;
+        ends[task] = ready;
+        return;
+      }
+      long end = consume(lane, Math.max(ready, laneCursor[lane]), duration);
+      starts[task] = lastStart;
+      ends[task] = end;
+      laneCursor[lane] = end;
+    }
+
+    private long consume(int lane, long from, int minutes) {
+      int day = (int) (from / DAY_SCALE);
+      int offset = (int) (from % DAY_SCALE);
+      int remaining = minutes;
+      lastStart = -1;
+      while (remaining > 0 && day < problem.maxDays) {
+        int available = problem.capacity(lane, day) - offset;
+        if (available <= 0) {
+          day++;
+          offset = 0;
+          continue;
+        }
+        if (lastStart < 0) {
+          lastStart = day * DAY_SCALE + offset;
+        }
+        int used = Math.min(available, remaining);
+        remaining -= used;
+        offset += used;
+        if (remaining > 0) {
+          day++;
+          offset = 0;
+        }
+      }
+      if (lastStart < 0) {
+        lastStart = day * DAY_SCALE + offset;
+      }
+      return day * DAY_SCALE + offset;
+    }
+
+    private double endValue(long stamp, int lane) {
+      int day = (int) (stamp / DAY_SCALE);
+      int offset = (int) (stamp % DAY_SCALE);
+      if (offset == 0) {
+        return day;
+      }
+      int capacity = lane < 0 ? 0 : problem.capacity(lane, day);
+      return capacity <= 0 ? day + 1 : day + Math.min(1, offset / (double) capacity);
+    }
+
+    private int lowestPending(int[] rank) {
+      int lowest = -1;
+      for (int task = 0; task < rank.length; task++) {
+        if (!done[task] && !queued[task] && (lowest < 0 || rank[task] < rank[lowest])) {
+          lowest = task;
+        }
+      }
+      return lowest;
+    }
+
+    private void push(int task, int[] rank) {
+      queued[task] = true;
+      int position = heapSize++;
+      while (position > 0) {
+        int parent = (position - 1) >>> 1;
+        if (rank[heap[parent]] <= rank[task]) {
+          break;
+        }
+        heap[position] = heap[parent];
+        position = parent;
+      }
+      heap[position] = task;
+    }
+
+    private int pop(int[] rank) {
+      int top = heap[0];
+      int last = heap[--heapSize];
+      int position = 0;
+      while (true) {
+        int child = position * 2 + 1;
+        if (child >= heapSize) {
+          break;
+        }
+        if (child + 1 < heapSize && rank[heap[child + 1]] < rank[heap[child]]) {
+          child++;
+        }
+        if (rank[heap[child]] >= rank[last]) {
+          break;
+        }
+        heap[position] = heap[child];
+        position = child;
+      }
+      if (heapSize > 0) {
+        heap[position] = last;
+      }
+      return top;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package com.sprintplanner.backend.scheduling;
+
+import com.sprintplanner.backend.component.CapacityCalculator;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.Member;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssignmentProblemFactory {
+  private final CapacityCalculator capacityCalculator;
+  private final Clock clock;
+
+  public AssignmentProblemFactory(CapacityCalculator capacityCalculator, Clock clock) {
+    this.capacityCalculator = capacityCalculator;
+    this.clock = clock;
+  }
+
+  public AssignmentProblem build(RootPersistedState state, boolean onlyUnassigned) {
+    return build(state, onlyUnassigned, false);
+  }
+
+  public AssignmentProblem buildCurrent(RootPersistedState state) {
+    return build(state, true, true);
+  }
+
+  private AssignmentProblem build(RootPersistedState state, boolean onlyUnassigned, boolean ownLaneForUnassigned) {
+    GlobalConfig config = state.getConfig() == null ? null : state.getConfig().getValue();
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    List<String> workingDayDates = capacityCalculator.workingDays(state.getSprint(), state.getCalendar());
+    int[] workingDays = new int[workingDayDates.size()];
+    for (int i = 0; i < workingDays.length; i++) {
+      workingDays[i] = EpochDays.parseIsoDate(workingDayDates.get(i));
+    }
+    int[] baseMinutes = baseMinutes(state, config, dates, workingDayDates);
+    int overflowMinutes = Math.max(0, defaultDayMinutes(config) - recurringMinutes(state));
+
+    List<TaskItem> tasks = new ArrayList<>();
+    Map<String, Integer> taskIds = new HashMap<>();
+    List<Integer> positions = new ArrayList<>();
+    List<TaskItem> items = state.getTasks() == null ? List.of() : safeList(state.getTasks().getItems());
+    for (int i = 0; i < items.size(); i++) {
+      TaskItem task = items.get(i);
+      if (task != null && task.getId() != null && !taskIds.containsKey(task.getId())) {
+        taskIds.put(task.getId(), tasks.size());
+        tasks.add(task);
+        positions.add(i);
+      }
+    }
+
+    Map<String, Double> laneFactors = new LinkedHashMap<>();
+    List<Integer> candidates = new ArrayList<>();
+    List<Member> members = state.getMembers() == null ? List.of() : safeList(state.getMembers().getItems());
+    for (Member member : members) {
+      if (member == null || member.getName() == null || laneFactors.containsKey(member.getName())) {
+        continue;
+      }
+      double factor = capacityCalculator.memberFactor(member, config);
+      if (capacityCalculator.isCounted(member, config) && factor > 0) {
+        candidates.add(laneFactors.size());
+      }
+      laneFactors.put(member.getName(), factor);
+    }
+    for (TaskItem task : tasks) {
+      String assignee = task.getAssigneeMemberName();
+      if (assignee != null && !assignee.isBlank() && !laneFactors.containsKey(assignee)) {
+        laneFactors.put(assignee, 1.0);
+      }
+    }
+    List<String> laneNames = new ArrayList<>(laneFactors.keySet());
+    List<Double> factors = new ArrayList<>(laneFactors.values());
+    Map<String, Integer> lanes = new HashMap<>();
+    for (int lane = 0; lane < laneNames.size(); lane++) {
+      lanes.put(laneNames.get(lane), lane);
+    }
+    Map<Integer, Integer> ownLanes = new HashMap<>();
+    if (ownLaneForUnassigned) {
+      for (int task = 0; task < tasks.size(); task++) {
+        String assignee = tasks.get(task).getAssigneeMemberName();
+        if (assignee == null || assignee.isBlank()) {
+          ownLanes.put(task, laneNames.size());
+          laneNames.add(null);
+          factors.add(1.0);
+        }
+      }
+    }
+    int[][] laneCapacity = new int[laneNames.size()][];
+    int[] overflowCapacity = new int[laneNames.size()];
+    for (int lane = 0; lane < laneNames.size(); lane++) {
+      double factor = factors.get(lane);
+      laneCapacity[lane] = new int[baseMinutes.length];
+      for (int day = 0; day < baseMinutes.length; day++) {
+        laneCapacity[lane][day] = (int) Math.floor(baseMinutes[day] * factor);
+      }
+      overflowCapacity[lane] = (int) Math.floor(overflowMinutes * factor);
+    }
+
+    double storyPointsPerHour = config == null ? 0 : config.getStoryPointsPerHour();
+    int[] durations = new int[tasks.size()];
+    double[] dueDays = new double[tasks.size()];
+    int[] fixedLanes = new int[tasks.size()];
+    int[][] dependencies = new int[tasks.size()][];
+    for (int task = 0; task < tasks.size(); task++) {
+      TaskItem item = tasks.get(task);
+      Integer lane = item.getAssigneeMemberName() == null || item.getAssigneeMemberName().isBlank()
+        ? ownLanes.get(task)
+        : lanes.get(item.getAssigneeMemberName());
+      boolean done = "done".equals(item.getStatus());
+      durations[task] = done || storyPointsPerHour <= 0
+        ? 0
+        : (int) Math.max(0, Math.ceil(effectiveStoryPoints(item) / storyPointsPerHour * 60));
+      if (done) {
+        fixedLanes[task] = lane == null ? AssignmentProblem.NO_LANE : lane;
+      } else {
+        fixedLanes[task] = onlyUnassigned && lane != null ? lane : AssignmentProblem.FREE;
+      }
+      int dueDay = dates.taskDueDay(positions.get(task));
+      dueDays[task] = EpochDays.isPresent(dueDay) ? workingDaysThrough(workingDays, dueDay) : workingDays.length;
+      dependencies[task] = dependencies(item, task, taskIds);
+    }
+
+    int horizonEnd = EpochDays.isPresent(dates.sprintStart())
+      ? dates.sprintStart() - 1
+      : (int) LocalDate.now(clock).toEpochDay() - 1;
+    return new AssignmentProblem(
+      tasks,
+      laneNames.toArray(new String[0]),
+      candidates.stream().mapToInt(Integer::intValue).toArray(),
+      laneCapacity,
+      overflowCapacity,
+      workingDays,
+      horizonEnd,
+      durations,
+      dueDays,
+      fixedLanes,
+      dependencies
+    );
+  }
+
+  private int[] baseMinutes(RootPersistedState state, GlobalConfig config, SprintDateIndex dates, List<String> workingDays) {
+    Map<String, DaySchedule> schedules = new HashMap<>();
+    List<DaySchedule> daySchedules = state.getCalendar() == null ? null : state.getCalendar().getDaySchedules();
+    for (DaySchedule day : safeList(daySchedules)) {
+      if (day != null && day.getDate() != null) {
+        schedules.put(day.getDate(), day);
+      }
+    }
+    Map<Integer, Integer> eventMinutes = new HashMap<>();
+    List<EventItem> events = state.getEvents() == null ? List.of() : safeList(state.getEvents().getItems());
+    for (int i = 0; i < events.size(); i++) {
+      EventItem event = events.get(i);
+      if (event != null && !event.isRecurringDaily() && EpochDays.isPresent(dates.eventDay(i))) {
+        eventMinutes.merge(dates.eventDay(i), event.getMinutes(), Integer::sum);
+      }
+    }
+    int recurring = recurringMinutes(state);
+    int fallback = defaultDayMinutes(config);
+    int[] minutes = new int[workingDays.size()];
+    for (int i = 0; i < minutes.length; i++) {
+      String iso = workingDays.get(i);
+      DaySchedule schedule = schedules.get(iso);
+      int periods = schedule == null ? fallback : capacityCalculator.periodsMinutes(schedule.getPeriods());
+      minutes[i] = Math.max(0, periods - eventMinutes.getOrDefault(EpochDays.parseIsoDate(iso), 0) - recurring);
+    }
+    return minutes;
+  }
+
+  private int defaultDayMinutes(GlobalConfig config) {
+    if (config == null) {
+      return 0;
+    }
+    int periods = capacityCalculator.periodsMinutes(config.getDefaultWorkingPeriods());
+    return periods > 0 ? periods : config.getDailyWorkHours() * 60;
+  }
+
+  private int recurringMinutes(RootPersistedState state) {
+    int minutes = 0;
+    List<EventItem> events = state.getEvents() == null ? List.of() : safeList(state.getEvents().getItems());
+    for (EventItem event : events) {
+      if (event != null && event.isRecurringDaily()) {
+        minutes += event.getMinutes();
+      }
+    }
+    return minutes;
+  }
+
+  private int workingDaysThrough(int[] workingDays, int day) {
+    int position = Arrays.binarySearch(workingDays, day);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  private int[] dependencies(TaskItem task, int position, Map<String, Integer> taskIds) {
+    List<Integer> predecessors = new ArrayList<>();
+    for (String dependency : safeList(task.getDependencies())) {
+      Integer predecessor = dependency == null ? null : taskIds.get(dependency);
+      if (predecessor != null && predecessor != position && !predecessors.contains(predecessor)) {
+        predecessors.add(predecessor);
+      }
+    }
+    return predecessors.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private double effectiveStoryPoints(TaskItem task) {
+    if (Boolean.TRUE.equals(task.getTurboEnabled()) && task.getTurboStoryPoints() != null
+      && Double.isFinite(task.getTurboStoryPoints())) {
+      return Math.max(0, task.getTurboStoryPoints());
+    }
+    return task.getStoryPoints();
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -0,0 +1,12 @@
+package com.sprintplanner.backend.scheduling;
+
+public record AssignmentResult(
+  int[] lanes,
+  int[] rank,
+  double cost,
+  double greedyCost,
+  long iterations,
+  int workers,
+  long elapsedMillis
+) {
+}
@@ -0,0 +1,194 @@
+package com.sprintplanner.backend.scheduling;
+
+import com.sprintplanner.backend.config.AutoAssignProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssignmentSolver {
+  private static final long GRACE_MILLIS = 500;
+  private static final int CHECK_INTERVAL = 64;
+  private static final double FINAL_TEMPERATURE_RATIO = 0.001;
+
+  private final int workers;
+  private final ThreadPoolExecutor executor;
+
+  public AssignmentSolver(AutoAssignProperties properties) {
+    this.workers = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+      workers,
+      workers,
+      60,
+      TimeUnit.SECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, properties.getMaxQueued())),
+      runnable -> {
+        Thread thread = new Thread(runnable, "auto-assign-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  public AssignmentResult solve(AssignmentProblem problem, AssignmentObjective objective, long budgetMillis) {
+    long started = System.nanoTime();
+    long deadline = started + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    int[] lanes = problem.initialLanes();
+    int[] rank = problem.initialRank();
+    double greedyCost = problem.evaluator(objective).greedy(lanes, rank);
+    if (problem.taskCount() < 2 && problem.freeTaskCount() == 0) {
+      return new AssignmentResult(lanes, rank, greedyCost, greedyCost, 0, 0, elapsedMillis(started));
+    }
+
+    List<Future<Candidate>> futures = new ArrayList<>(workers);
+    try {
+      for (int worker = 0; worker < workers; worker++) {
+        long seed = 0x9E3779B97F4A7C15L * (worker + 1) ^ started;
+        futures.add(executor.submit(() -> anneal(problem, objective, lanes.clone(), rank.clone(), greedyCost, seed, deadline)));
+      }
+    } catch (RejectedExecutionException ex) {
+      futures.forEach(future -> future.cancel(true));
+      throw new SchedulerBusyException("Otimizador de atribuição ocupado, tente novamente.", ex);
+    }
+
+    Candidate best = new Candidate(lanes, rank, greedyCost, 0);
+    long iterations = 0;
+    for (Future<Candidate> future : futures) {
+      try {
+        long wait = Math.max(0, deadline - System.nanoTime()) + TimeUnit.MILLISECONDS.toNanos(GRACE_MILLIS);
+        Candidate candidate = future.get(wait, TimeUnit.NANOSECONDS);
+        iterations += candidate.iterations();
+        if (candidate.cost() < best.cost()) {
+          best = candidate;
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        futures.forEach(pending -> pending.cancel(true));
+        break;
+      } catch (ExecutionException | TimeoutException ex) {
+        future.cancel(true);
+      }
+    }
+    return new AssignmentResult(best.lanes(), best.rank(), best.cost(), greedyCost, iterations, futures.size(), elapsedMillis(started));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private Candidate anneal(
+    AssignmentProblem problem,
+    AssignmentObjective objective,
+    int[] lanes,
+    int[] rank,
+    double initialCost,
+    long seed,
+    long deadline
+  ) {
+    SplittableRandom random = new SplittableRandom(seed);
+    AssignmentProblem.Evaluator evaluator = problem.evaluator(objective);
+    int taskCount = problem.taskCount();
+    int freeCount = problem.freeTaskCount();
+    int laneCount = problem.candidateLaneCount();
+    double current = initialCost;
+    double best = initialCost;
+    int[] bestLanes = lanes.clone();
+    int[] bestRank = rank.clone();
+    long started = System.nanoTime();
+    double span = Math.max(1, deadline - started);
+    double initialTemperature = Math.max(1e-3, Math.abs(initialCost) * 0.05);
+    double temperature = initialTemperature;
+    long iterations = 0;
+
+    while (true) {
+      if (iterations % CHECK_INTERVAL == 0) {
+        long now = System.nanoTime();
+        if (now >= deadline || Thread.currentThread().isInterrupted()) {
+          break;
+        }
+        temperature = initialTemperature * Math.pow(FINAL_TEMPERATURE_RATIO, (now - started) / span);
+      }
+      iterations++;
+
+      int move = random.nextInt(3);
+      int first;
+      int second;
+      int previousFirst;
+      int previousSecond;
+      if (move == 0 && freeCount > 0 && laneCount > 1) {
+        first = problem.freeTask(random.nextInt(freeCount));
+        second = -1;
+        previousFirst = lanes[first];
+        previousSecond = 0;
+        int lane = problem.candidateLane(random.nextInt(laneCount));
+        if (lane == previousFirst) {
+          continue;
+        }
+        lanes[first] = lane;
+      } else if (move == 1 && freeCount > 1) {
+        first = problem.freeTask(random.nextInt(freeCount));
+        second = problem.freeTask(random.nextInt(freeCount));
+        previousFirst = lanes[first];
+        previousSecond = lanes[second];
+        if (previousFirst == previousSecond) {
+          continue;
+        }
+        lanes[first] = previousSecond;
+        lanes[second] = previousFirst;
+      } else if (taskCount > 1) {
+        move = 2;
+        first = random.nextInt(taskCount);
+        second = random.nextInt(taskCount);
+        previousFirst = rank[first];
+        previousSecond = rank[second];
+        if (first == second) {
+          continue;
+        }
+        rank[first] = previousSecond;
+        rank[second] = previousFirst;
+      } else {
+        break;
+      }
+
+      double cost = evaluator.cost(lanes, rank);
+      double delta = cost - current;
+      if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+        current = cost;
+        if (cost < best - 1e-12) {
+          best = cost;
+          System.arraycopy(lanes, 0, bestLanes, 0, taskCount);
+          System.arraycopy(rank, 0, bestRank, 0, taskCount);
+        }
+      } else if (move == 0) {
+        lanes[first] = previousFirst;
+      } else if (move == 1) {
+        lanes[first] = previousFirst;
+        lanes[second] = previousSecond;
+      } else {
+        rank[first] = previousFirst;
+        rank[second] = previousSecond;
+      }
+    }
+    return new Candidate(bestLanes, bestRank, best, iterations);
+  }
+
+  private long elapsedMillis(long started) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+  }
+
+  private record Candidate(int[] lanes, int[] rank, double cost, long iterations) {
+  }
+}
@@ -0,0 +1,4 @@
+package com.sprintplanner.backend.scheduling;
+
+public record DurationCalibration(int sampleCount, double mu, double sigma, boolean fromHistory) {
+}
@@ -0,0 +1,53 @@
+package com.sprintplanner.backend.scheduling;
+
+import com.sprintplanner.backend.config.ForecastProperties;
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import com.sprintplanner.backend.util.EpochDays;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DurationCalibrator {
+  private static final double MIN_RATIO = 0.05;
+  private static final double MAX_RATIO = 20;
+  private static final double MIN_SIGMA = 0.05;
+
+  private final ForecastProperties forecastProperties;
+
+  public DurationCalibrator(ForecastProperties forecastProperties) {
+    this.forecastProperties = forecastProperties;
+  }
+
+  public DurationCalibration calibrate(List<TaskIndexEntry> completedTasks) {
+    int count = 0;
+    double sum = 0;
+    double sumSquares = 0;
+    for (TaskIndexEntry task : completedTasks) {
+      if (task.getStoryPoints() <= 0) {
+        continue;
+      }
+      int start = EpochDays.parseIsoDate(task.getComputedStartDate());
+      int plannedEnd = EpochDays.parseIsoDate(task.getComputedEndDate());
+      int completed = EpochDays.parseIsoDate(task.getCompletedAt());
+      int planned = EpochDays.weekdaysBetween(start, plannedEnd);
+      int actual = EpochDays.weekdaysBetween(start, completed);
+      if (planned <= 0 || actual <= 0) {
+        continue;
+      }
+      double ratio = actual / (double) planned;
+      if (ratio < MIN_RATIO || ratio > MAX_RATIO) {
+        continue;
+      }
+      double log = Math.log(ratio);
+      count++;
+      sum += log;
+      sumSquares += log * log;
+    }
+    if (count < Math.max(2, forecastProperties.getMinSamples())) {
+      return new DurationCalibration(count, 0, forecastProperties.getDefaultSigma(), false);
+    }
+    double mu = sum / count;
+    double variance = Math.max(0, (sumSquares - count * mu * mu) / (count - 1));
+    return new DurationCalibration(count, mu, Math.max(MIN_SIGMA, Math.sqrt(variance)), true);
+  }
+}
@@ -0,0 +1,49 @@
+package com.sprintplanner.backend.scheduling;
+
+public record ForecastResult(
+  int runs,
+  int workers,
+  long elapsedMillis,
+  int dayLimit,
+  int[] finishHistogram,
+  int[] taskHistogram
+) {
+  public int finishPercentile(double quantile) {
+    return percentile(finishHistogram, 0, quantile);
+  }
+
+  public int taskPercentile(int task, double quantile) {
+    return percentile(taskHistogram, task * dayLimit, quantile);
+  }
+
+  public double finishProbability(int lastDay) {
+    return probability(finishHistogram, 0, lastDay);
+  }
+
+  public double taskProbability(int task, int lastDay) {
+    return probability(taskHistogram, task * dayLimit, lastDay);
+  }
+
+  private int percentile(int[] histogram, int offset, double quantile) {
+    long target = (long) Math.ceil(quantile * runs);
+    long cumulative = 0;
+    for (int day = 0; day < dayLimit; day++) {
+      cumulative += histogram[offset + day];
+      if (cumulative >= target) {
+        return day;
+      }
+    }
+    return dayLimit - 1;
+  }
+
+  private double probability(int[] histogram, int offset, int lastDay) {
+    if (runs == 0 || lastDay < 0) {
+      return 0;
+    }
+    long cumulative = 0;
+    for (int day = 0; day <= lastDay && day < dayLimit; day++) {
+      cumulative += histogram[offset + day];
+    }
+    return cumulative / (double) runs;
+  }
+}
@@ -0,0 +1,151 @@
+package com.sprintplanner.backend.scheduling;
+
+import com.sprintplanner.backend.config.ForecastProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ForecastSimulator {
+  private final int workers;
+  private final int horizonDays;
+  private final ThreadPoolExecutor executor;
+
+  public ForecastSimulator(ForecastProperties properties) {
+    this.workers = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+    this.horizonDays = Math.max(1, properties.getHorizonDays());
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(
+      workers,
+      workers,
+      60,
+      TimeUnit.SECONDS,
+      new ArrayBlockingQueue<>(Math.max(1, properties.getMaxQueued())),
+      runnable -> {
+        Thread thread = new Thread(runnable, "forecast-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  public ForecastResult simulate(
+    AssignmentProblem problem,
+    DurationCalibration calibration,
+    int runs,
+    long seed,
+    int releaseDay,
+    boolean includeTasks
+  ) {
+    long started = System.nanoTime();
+    int dayLimit = Math.min(problem.horizonDays(), Math.max(releaseDay, problem.sprintDays()) + horizonDays) + 1;
+    int[] lanes = problem.initialLanes();
+    int[] rank = problem.initialRank();
+    int workerCount = Math.max(1, Math.min(workers, runs));
+    SplittableRandom root = new SplittableRandom(seed);
+
+    List<Future<Histograms>> futures = new ArrayList<>(workerCount);
+    try {
+      for (int worker = 0; worker < workerCount; worker++) {
+        int workerRuns = runs / workerCount + (worker < runs % workerCount ? 1 : 0);
+        SplittableRandom random = root.split();
+        futures.add(executor.submit(() -> run(problem, calibration, lanes, rank, workerRuns, random, releaseDay, dayLimit, includeTasks)));
+      }
+    } catch (RejectedExecutionException ex) {
+      futures.forEach(future -> future.cancel(true));
+      throw new SchedulerBusyException("Simulador de previsão ocupado, tente novamente.", ex);
+    }
+
+    int[] finish = null;
+    int[] tasks = null;
+    try {
+      for (Future<Histograms> future : futures) {
+        Histograms histograms = future.get();
+        finish = merge(finish, histograms.finish());
+        tasks = merge(tasks, histograms.tasks());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Simulação interrompida.", ex);
+    } catch (ExecutionException ex) {
+      futures.forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Falha na simulação de previsão.", ex.getCause());
+    }
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    return new ForecastResult(runs, workerCount, elapsed, dayLimit, finish, tasks);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private Histograms run(
+    AssignmentProblem problem,
+    DurationCalibration calibration,
+    int[] lanes,
+    int[] rank,
+    int runs,
+    SplittableRandom random,
+    int releaseDay,
+    int dayLimit,
+    boolean includeTasks
+  ) {
+    int taskCount = problem.taskCount();
+    AssignmentProblem.Evaluator evaluator = problem.evaluator(AssignmentObjective.MAKESPAN);
+    int[] baseDurations = new int[taskCount];
+    for (int task = 0; task < taskCount; task++) {
+      baseDurations[task] = problem.duration(task);
+    }
+    int[] durations = new int[taskCount];
+    int[] finish = new int[dayLimit];
+    int[] tasks = includeTasks ? new int[taskCount * dayLimit] : null;
+    int firstDay = Math.min(releaseDay, dayLimit - 1);
+    double mu = calibration.mu();
+    double sigma = calibration.sigma();
+
+    for (int run = 0; run < runs; run++) {
+      for (int task = 0; task < taskCount; task++) {
+        int base = baseDurations[task];
+        durations[task] = base <= 0 ? 0 : Math.max(1, (int) Math.ceil(base * Math.exp(mu + sigma * random.nextGaussian())));
+      }
+      evaluator.simulate(lanes, rank, durations, releaseDay);
+      int finishDay = firstDay;
+      for (int task = 0; task < taskCount; task++) {
+        int day = Math.min(evaluator.endDay(task), dayLimit - 1);
+        if (tasks != null) {
+          tasks[task * dayLimit + day]++;
+        }
+        if (durations[task] > 0 && day > finishDay) {
+          finishDay = day;
+        }
+      }
+      finish[finishDay]++;
+    }
+    return new Histograms(finish, tasks);
+  }
+
+  private int[] merge(int[] target, int[] source) {
+    if (target == null || source == null) {
+      return target == null ? source : target;
+    }
+    for (int i = 0; i < target.length; i++) {
+      target[i] += source[i];
+    }
+    return target;
+  }
+
+  private record Histograms(int[] finish, int[] tasks) {
+  }
+}
@@ -0,0 +1,9 @@
+package com.sprintplanner.backend.scheduling;
+
+import org.springframework.core.task.TaskRejectedException;
+
+public class SchedulerBusyException extends TaskRejectedException {
+  public SchedulerBusyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
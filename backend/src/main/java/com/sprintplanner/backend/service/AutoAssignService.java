@@ -0,0 +1,72 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.config.AutoAssignProperties;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.dto.AutoAssignPlanDto;
+import com.sprintplanner.backend.dto.AutoAssignRequestDto;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.parser.AutoAssignParser;
+import com.sprintplanner.backend.scheduling.AssignmentObjective;
+import com.sprintplanner.backend.scheduling.AssignmentProblem;
+import com.sprintplanner.backend.scheduling.AssignmentProblemFactory;
+import com.sprintplanner.backend.scheduling.AssignmentResult;
+import com.sprintplanner.backend.scheduling.AssignmentSolver;
+import com.sprintplanner.backend.validators.AutoAssignRequestValidator;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class AutoAssignService {
+  private final SprintEntityComponent sprintEntityComponent;
+  private final WorkingCalendarService workingCalendarService;
+  private final AssignmentProblemFactory assignmentProblemFactory;
+  private final AssignmentSolver assignmentSolver;
+  private final AutoAssignParser autoAssignParser;
+  private final AutoAssignRequestValidator autoAssignRequestValidator;
+  private final AutoAssignProperties autoAssignProperties;
+
+  public AutoAssignService(
+    SprintEntityComponent sprintEntityComponent,
+    WorkingCalendarService workingCalendarService,
+    AssignmentProblemFactory assignmentProblemFactory,
+    AssignmentSolver assignmentSolver,
+    AutoAssignParser autoAssignParser,
+    AutoAssignRequestValidator autoAssignRequestValidator,
+    AutoAssignProperties autoAssignProperties
+  ) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.workingCalendarService = workingCalendarService;
+    this.assignmentProblemFactory = assignmentProblemFactory;
+    this.assignmentSolver = assignmentSolver;
+    this.autoAssignParser = autoAssignParser;
+    this.autoAssignRequestValidator = autoAssignRequestValidator;
+    this.autoAssignProperties = autoAssignProperties;
+  }
+
+  public AutoAssignPlanDto autoAssign(String sprintId, AutoAssignRequestDto request) {
+    autoAssignRequestValidator.validateOrThrow(request);
+    AutoAssignRequestDto options = request == null ? new AutoAssignRequestDto() : request;
+    SprintDocument sprint = sprintEntityComponent.getRequired(sprintId);
+    if (sprint.getState() == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Sprint sem estado para planejar.");
+    }
+    workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+
+    AssignmentProblem problem = assignmentProblemFactory.build(sprint.getState(), Boolean.TRUE.equals(options.getOnlyUnassigned()));
+    if (problem.freeTaskCount() > 0 && problem.candidateLaneCount() == 0) {
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST,
+        "Nenhum membro contabilizado com capacidade disponível para receber tarefas."
+      );
+    }
+    AssignmentObjective objective = options.getObjective() == null
+      ? AssignmentObjective.MAKESPAN
+      : AssignmentObjective.from(options.getObjective());
+    long budget = options.getTimeBudgetMillis() == null
+      ? autoAssignProperties.getDefaultTimeBudgetMillis()
+      : options.getTimeBudgetMillis();
+    AssignmentResult result = assignmentSolver.solve(problem, objective, budget);
+    return autoAssignParser.toDto(sprintId, objective, budget, problem, result);
+  }
+}
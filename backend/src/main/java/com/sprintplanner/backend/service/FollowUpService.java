@@ -0,0 +1,138 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.component.BurndownSeriesFactory;
+import com.sprintplanner.backend.domain.BurndownSeries;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskStatusEvent;
+import com.sprintplanner.backend.dto.BurndownDto;
+import com.sprintplanner.backend.entitycomponent.FollowUpEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.parser.BurndownParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FollowUpService {
+  private final FollowUpEntityComponent followUpEntityComponent;
+  private final SprintEntityComponent sprintEntityComponent;
+  private final BurndownSeriesFactory burndownSeriesFactory;
+  private final BurndownParser burndownParser;
+  private final WorkingCalendarService workingCalendarService;
+  private final Clock clock;
+
+  public FollowUpService(
+    FollowUpEntityComponent followUpEntityComponent,
+    SprintEntityComponent sprintEntityComponent,
+    BurndownSeriesFactory burndownSeriesFactory,
+    BurndownParser burndownParser,
+    WorkingCalendarService workingCalendarService,
+    Clock clock
+  ) {
+    this.followUpEntityComponent = followUpEntityComponent;
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.burndownSeriesFactory = burndownSeriesFactory;
+    this.burndownParser = burndownParser;
+    this.workingCalendarService = workingCalendarService;
+    this.clock = clock;
+  }
+
+  public void recordSave(SprintDocument sprint, RootPersistedState previousState) {
+    int today = (int) LocalDate.now(clock).toEpochDay();
+    followUpEntityComponent.appendEvents(statusEvents(sprint, previousState, today));
+    BurndownSeries previous = followUpEntityComponent.findSeries(sprint.getId()).orElse(null);
+    followUpEntityComponent.saveSeries(burndownSeriesFactory.update(
+      previous,
+      sprint.getId(),
+      sprint.getProjectId(),
+      sprint.getState(),
+      today
+    ));
+  }
+
+  public BurndownDto getBurndown(String sprintId) {
+    LocalDate today = LocalDate.now(clock);
+    BurndownSeries series = followUpEntityComponent.findSeries(sprintId).orElse(null);
+    if (series == null) {
+      SprintDocument sprint = sprintEntityComponent.getRequired(sprintId);
+      workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+      series = followUpEntityComponent.saveSeries(burndownSeriesFactory.update(
+        null,
+        sprint.getId(),
+        sprint.getProjectId(),
+        sprint.getState(),
+        (int) today.toEpochDay()
+      ));
+    }
+    return burndownParser.toDto(series, today.toString());
+  }
+
+  public void deleteBySprintId(String sprintId) {
+    followUpEntityComponent.deleteBySprintId(sprintId);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    followUpEntityComponent.deleteByProjectId(projectId);
+  }
+
+  private List<TaskStatusEvent> statusEvents(SprintDocument sprint, RootPersistedState previousState, int today) {
+    Map<String, TaskItem> previousTasks = new HashMap<>();
+    for (TaskItem task : tasks(previousState)) {
+      if (task != null && task.getId() != null) {
+        previousTasks.put(task.getId(), task);
+      }
+    }
+    Instant now = DateTimeUtil.now();
+    String day = EpochDays.format(today);
+    List<TaskStatusEvent> events = new ArrayList<>();
+    for (TaskItem task : tasks(sprint.getState())) {
+      if (task == null || task.getId() == null) {
+        continue;
+      }
+      TaskItem before = previousTasks.remove(task.getId());
+      String fromStatus = before == null ? null : statusOf(before);
+      String toStatus = statusOf(task);
+      if (!Objects.equals(fromStatus, toStatus)) {
+        events.add(event(sprint, task, fromStatus, toStatus, day, now));
+      }
+    }
+    for (TaskItem removed : previousTasks.values()) {
+      events.add(event(sprint, removed, statusOf(removed), null, day, now));
+    }
+    return events;
+  }
+
+  private TaskStatusEvent event(SprintDocument sprint, TaskItem task, String fromStatus, String toStatus, String day, Instant now) {
+    return TaskStatusEvent.builder()
+      .sprintId(sprint.getId())
+      .projectId(sprint.getProjectId())
+      .taskId(task.getId())
+      .fromStatus(fromStatus)
+      .toStatus(toStatus)
+      .storyPoints(task.getStoryPoints())
+      .day(day)
+      .occurredAt(now)
+      .build();
+  }
+
+  private String statusOf(TaskItem task) {
+    return task.getStatus() == null || task.getStatus().isBlank() ? "todo" : task.getStatus();
+  }
+
+  private List<TaskItem> tasks(RootPersistedState state) {
+    if (state == null || state.getTasks() == null || state.getTasks().getItems() == null) {
+      return List.of();
+    }
+    return state.getTasks().getItems();
+  }
+}
@@ -0,0 +1,115 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.config.ForecastProperties;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.StateSection;
+import com.sprintplanner.backend.dto.ProjectForecastDto;
+import com.sprintplanner.backend.dto.SprintForecastDto;
+import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.TaskIndexEntityComponent;
+import com.sprintplanner.backend.parser.ForecastParser;
+import com.sprintplanner.backend.scheduling.AssignmentProblem;
+import com.sprintplanner.backend.scheduling.AssignmentProblemFactory;
+import com.sprintplanner.backend.scheduling.DurationCalibration;
+import com.sprintplanner.backend.scheduling.DurationCalibrator;
+import com.sprintplanner.backend.scheduling.ForecastResult;
+import com.sprintplanner.backend.scheduling.ForecastSimulator;
+import com.sprintplanner.backend.validators.ForecastRequestValidator;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ForecastService {
+  private final SprintEntityComponent sprintEntityComponent;
+  private final ProjectEntityComponent projectEntityComponent;
+  private final TaskIndexEntityComponent taskIndexEntityComponent;
+  private final WorkingCalendarService workingCalendarService;
+  private final AssignmentProblemFactory assignmentProblemFactory;
+  private final DurationCalibrator durationCalibrator;
+  private final ForecastSimulator forecastSimulator;
+  private final ForecastParser forecastParser;
+  private final ForecastRequestValidator forecastRequestValidator;
+  private final ForecastProperties forecastProperties;
+  private final Clock clock;
+
+  public ForecastService(
+    SprintEntityComponent sprintEntityComponent,
+    ProjectEntityComponent projectEntityComponent,
+    TaskIndexEntityComponent taskIndexEntityComponent,
+    WorkingCalendarService workingCalendarService,
+    AssignmentProblemFactory assignmentProblemFactory,
+    DurationCalibrator durationCalibrator,
+    ForecastSimulator forecastSimulator,
+    ForecastParser forecastParser,
+    ForecastRequestValidator forecastRequestValidator,
+    ForecastProperties forecastProperties,
+    Clock clock
+  ) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.projectEntityComponent = projectEntityComponent;
+    this.taskIndexEntityComponent = taskIndexEntityComponent;
+    this.workingCalendarService = workingCalendarService;
+    this.assignmentProblemFactory = assignmentProblemFactory;
+    this.durationCalibrator = durationCalibrator;
+    this.forecastSimulator = forecastSimulator;
+    this.forecastParser = forecastParser;
+    this.forecastRequestValidator = forecastRequestValidator;
+    this.forecastProperties = forecastProperties;
+    this.clock = clock;
+  }
+
+  public SprintForecastDto getSprintForecast(String sprintId, Integer runs, Long seed) {
+    forecastRequestValidator.validateOrThrow(runs);
+    SprintDocument sprint = sprintEntityComponent.getRequired(sprintId);
+    DurationCalibration calibration = calibrate(sprint.getProjectId());
+    return forecast(sprint, calibration, resolveRuns(runs), seed, true);
+  }
+
+  public ProjectForecastDto getProjectForecast(String projectId, Integer runs, Long seed) {
+    forecastRequestValidator.validateOrThrow(runs);
+    projectEntityComponent.getRequired(projectId);
+    DurationCalibration calibration = calibrate(projectId);
+    int resolvedRuns = resolveRuns(runs);
+    List<SprintForecastDto> sprints = new ArrayList<>();
+    List<String> ids = sprintEntityComponent.findIds(projectId);
+    try (Stream<SprintDocument> stream = sprintEntityComponent.streamById(ids, EnumSet.noneOf(StateSection.class))) {
+      Iterator<SprintDocument> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        sprints.add(forecast(iterator.next(), calibration, resolvedRuns, seed, false));
+      }
+    }
+    return ProjectForecastDto.builder()
+      .projectId(projectId)
+      .runs(resolvedRuns)
+      .calibration(forecastParser.toCalibrationDto(calibration))
+      .sprints(sprints)
+      .build();
+  }
+
+  private SprintForecastDto forecast(SprintDocument sprint, DurationCalibration calibration, int runs, Long seed, boolean includeTasks) {
+    if (sprint.getState() == null) {
+      return forecastParser.toEmptySprintDto(sprint, calibration);
+    }
+    workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+    AssignmentProblem problem = assignmentProblemFactory.buildCurrent(sprint.getState());
+    int releaseDay = problem.dayIndexOnOrAfter((int) LocalDate.now(clock).toEpochDay());
+    long resolvedSeed = seed == null ? System.nanoTime() : seed ^ sprint.getId().hashCode();
+    ForecastResult result = forecastSimulator.simulate(problem, calibration, runs, resolvedSeed, releaseDay, includeTasks);
+    return forecastParser.toSprintDto(sprint, problem, result, calibration, includeTasks);
+  }
+
+  private DurationCalibration calibrate(String projectId) {
+    return durationCalibrator.calibrate(taskIndexEntityComponent.findCompletedByProjectId(projectId));
+  }
+
+  private int resolveRuns(Integer runs) {
+    return runs == null ? forecastProperties.getDefaultRuns() : runs;
+  }
+}
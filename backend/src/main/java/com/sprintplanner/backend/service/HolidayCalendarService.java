@@ -0,0 +1,192 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.config.HolidayCalendarProperties;
+import com.sprintplanner.backend.domain.Holiday;
+import com.sprintplanner.backend.domain.HolidayCalendar;
+import com.sprintplanner.backend.dto.HolidayCalendarDto;
+import com.sprintplanner.backend.entitycomponent.HolidayCalendarEntityComponent;
+import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
+import com.sprintplanner.backend.parser.HolidayCalendarParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDaySet;
+import com.sprintplanner.backend.validators.HolidayCalendarValidator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+
+@Service
+public class HolidayCalendarService {
+  private final HolidayCalendarEntityComponent holidayCalendarEntityComponent;
+  private final ProjectEntityComponent projectEntityComponent;
+  private final HolidayCalendarParser holidayCalendarParser;
+  private final HolidayCalendarValidator holidayCalendarValidator;
+  private final long cacheTtlNanos;
+  private final Map<String, Resolved> resolvedByProject = new ConcurrentHashMap<>();
+  private final AtomicLong revision = new AtomicLong();
+  private volatile Resolved organizationDays;
+
+  public HolidayCalendarService(
+    HolidayCalendarEntityComponent holidayCalendarEntityComponent,
+    ProjectEntityComponent projectEntityComponent,
+    HolidayCalendarParser holidayCalendarParser,
+    HolidayCalendarValidator holidayCalendarValidator,
+    HolidayCalendarProperties holidayCalendarProperties
+  ) {
+    this.holidayCalendarEntityComponent = holidayCalendarEntityComponent;
+    this.projectEntityComponent = projectEntityComponent;
+    this.holidayCalendarParser = holidayCalendarParser;
+    this.holidayCalendarValidator = holidayCalendarValidator;
+    this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, holidayCalendarProperties.getCacheTtlMillis()));
+  }
+
+  public HolidayCalendarDto getOrganizationCalendar() {
+    return holidayCalendarParser.toDto(holidayCalendarEntityComponent.findOrganization()
+      .orElseGet(() -> emptyCalendar(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE, null)));
+  }
+
+  public HolidayCalendarDto updateOrganizationCalendar(HolidayCalendarDto input) {
+    List<Holiday> days = holidayCalendarParser.toDomain(input == null ? null : input.getDays());
+    holidayCalendarValidator.validateOrThrow(days);
+    HolidayCalendar saved = holidayCalendarEntityComponent.save(HolidayCalendar.builder()
+      .id(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE)
+      .scope(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE)
+      .days(days)
+      .updatedAt(DateTimeUtil.now())
+      .build());
+    revision.incrementAndGet();
+    organizationDays = null;
+    resolvedByProject.clear();
+    return holidayCalendarParser.toDto(saved);
+  }
+
+  public HolidayCalendarDto getProjectCalendar(String projectId) {
+    projectEntityComponent.getRequired(projectId);
+    return holidayCalendarParser.toDto(holidayCalendarEntityComponent.findByProjectId(projectId)
+      .orElseGet(() -> emptyCalendar(HolidayCalendarEntityComponent.PROJECT_SCOPE, projectId)));
+  }
+
+  public HolidayCalendarDto updateProjectCalendar(String projectId, HolidayCalendarDto input) {
+    projectEntityComponent.getRequired(projectId);
+    List<Holiday> days = holidayCalendarParser.toDomain(input == null ? null : input.getDays());
+    holidayCalendarValidator.validateOrThrow(days);
+    HolidayCalendar saved = holidayCalendarEntityComponent.save(HolidayCalendar.builder()
+      .id(holidayCalendarEntityComponent.projectCalendarId(projectId))
+      .scope(HolidayCalendarEntityComponent.PROJECT_SCOPE)
+      .projectId(projectId)
+      .days(days)
+      .updatedAt(DateTimeUtil.now())
+      .build());
+    revision.incrementAndGet();
+    resolvedByProject.remove(projectId);
+    return holidayCalendarParser.toDto(saved);
+  }
+
+  public void deleteProjectCalendar(String projectId) {
+    holidayCalendarEntityComponent.deleteByProjectId(projectId);
+    revision.incrementAndGet();
+    resolvedByProject.remove(projectId);
+  }
+
+  public EpochDaySet resolveForProject(String projectId) {
+    return resolve(projectId).days();
+  }
+
+  public String calendarVersion(String projectId) {
+    return resolve(projectId).version();
+  }
+
+  private Resolved resolve(String projectId) {
+    long current = revision.get();
+    long now = System.nanoTime();
+    if (projectId == null) {
+      return organizationDays(current, now);
+    }
+    Resolved cached = resolvedByProject.get(projectId);
+    if (cached != null && cached.revision() == current) {
+      if (now - cached.checkedAt() < cacheTtlNanos) {
+        return cached;
+      }
+      String projectCalendarId = holidayCalendarEntityComponent.projectCalendarId(projectId);
+      Map<String, Instant> updatedAt = holidayCalendarEntityComponent.findUpdatedAt(
+        List.of(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE, projectCalendarId));
+      String organizationVersion = versionOf(updatedAt.get(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE));
+      if (cached.version().equals(organizationVersion + "|" + versionOf(updatedAt.get(projectCalendarId)))) {
+        Resolved refreshed = new Resolved(cached.revision(), now, cached.version(), cached.days());
+        resolvedByProject.replace(projectId, cached, refreshed);
+        return refreshed;
+      }
+      Resolved cachedOrganization = organizationDays;
+      if (cachedOrganization != null && !cachedOrganization.version().equals(organizationVersion)) {
+        organizationDays = null;
+      }
+    }
+    Resolved organization = organizationDays(current, now);
+    Optional<HolidayCalendar> calendar = holidayCalendarEntityComponent.findByProjectId(projectId);
+    Resolved resolved = new Resolved(
+      current,
+      now,
+      organization.version() + "|" + versionOf(calendar.map(HolidayCalendar::getUpdatedAt).orElse(null)),
+      organization.days().union(toDaySet(calendar))
+    );
+    resolvedByProject.merge(projectId, resolved, (previous, next) ->
+      next.revision() >= previous.revision() ? next : previous);
+    return resolved;
+  }
+
+  private Resolved organizationDays(long current, long now) {
+    Resolved cached = organizationDays;
+    if (cached != null && cached.revision() == current) {
+      if (now - cached.checkedAt() < cacheTtlNanos) {
+        return cached;
+      }
+      Map<String, Instant> updatedAt = holidayCalendarEntityComponent.findUpdatedAt(
+        List.of(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE));
+      if (cached.version().equals(versionOf(updatedAt.get(HolidayCalendarEntityComponent.ORGANIZATION_SCOPE)))) {
+        Resolved refreshed = new Resolved(cached.revision(), now, cached.version(), cached.days());
+        organizationDays = refreshed;
+        return refreshed;
+      }
+    }
+    Optional<HolidayCalendar> calendar = holidayCalendarEntityComponent.findOrganization();
+    Resolved resolved = new Resolved(
+      current,
+      now,
+      versionOf(calendar.map(HolidayCalendar::getUpdatedAt).orElse(null)),
+      toDaySet(calendar)
+    );
+    organizationDays = resolved;
+    return resolved;
+  }
+
+  private String versionOf(Instant updatedAt) {
+    return updatedAt == null ? "-" : DateTimeUtil.toIso(updatedAt);
+  }
+
+  private EpochDaySet toDaySet(Optional<HolidayCalendar> calendar) {
+    List<LocalDate> dates = new ArrayList<>();
+    for (Holiday day : calendar.map(HolidayCalendar::getDays).orElse(List.of())) {
+      if (day != null && day.getDate() != null) {
+        dates.add(LocalDate.parse(day.getDate()));
+      }
+    }
+    return EpochDaySet.of(dates);
+  }
+
+  private HolidayCalendar emptyCalendar(String scope, String projectId) {
+    return HolidayCalendar.builder()
+      .scope(scope)
+      .projectId(projectId)
+      .days(new ArrayList<>())
+      .build();
+  }
+
+  private record Resolved(long revision, long checkedAt, String version, EpochDaySet days) {
+  }
+}
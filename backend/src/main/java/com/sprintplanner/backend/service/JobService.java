@@ -0,0 +1,141 @@
+package com.sprintplanner.backend.service;
+
+import com.mongodb.client.gridfs.GridFSDownloadStream;
+import com.sprintplanner.backend.config.JobProperties;
+import com.sprintplanner.backend.domain.Job;
+import com.sprintplanner.backend.dto.JobDto;
+import com.sprintplanner.backend.dto.JobRequestDto;
+import com.sprintplanner.backend.entitycomponent.JobEntityComponent;
+import com.sprintplanner.backend.job.JobEventBroadcaster;
+import com.sprintplanner.backend.job.JobHandler;
+import com.sprintplanner.backend.job.JobResultStore;
+import com.sprintplanner.backend.job.JobRunner;
+import com.sprintplanner.backend.parser.JobParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.IdGenerator;
+import com.sprintplanner.backend.validators.JobRequestValidator;
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public class JobService {
+  private static final int DEFAULT_PRIORITY = 5;
+
+  private final JobEntityComponent jobEntityComponent;
+  private final JobParser jobParser;
+  private final JobRequestValidator jobRequestValidator;
+  private final JobRunner jobRunner;
+  private final JobEventBroadcaster jobEventBroadcaster;
+  private final JobResultStore jobResultStore;
+  private final JobProperties jobProperties;
+
+  public JobService(
+    JobEntityComponent jobEntityComponent,
+    JobParser jobParser,
+    JobRequestValidator jobRequestValidator,
+    JobRunner jobRunner,
+    JobEventBroadcaster jobEventBroadcaster,
+    JobResultStore jobResultStore,
+    JobProperties jobProperties
+  ) {
+    this.jobEntityComponent = jobEntityComponent;
+    this.jobParser = jobParser;
+    this.jobRequestValidator = jobRequestValidator;
+    this.jobRunner = jobRunner;
+    this.jobEventBroadcaster = jobEventBroadcaster;
+    this.jobResultStore = jobResultStore;
+    this.jobProperties = jobProperties;
+  }
+
+  public JobDto submit(JobRequestDto request) {
+    jobRequestValidator.validateOrThrow(request);
+    JobHandler handler = jobRunner.handler(request.getType());
+    if (handler == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Tipo de job desconhecido.");
+    }
+    Map<String, String> params = request.getParams() == null ? Map.of() : request.getParams();
+    String validation = handler.validate(params);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+    if (!jobRunner.tryReserve()) {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Fila de jobs cheia. Tente novamente mais tarde.");
+    }
+    Job job;
+    try {
+      Instant now = DateTimeUtil.now();
+      job = jobEntityComponent.insert(Job.builder()
+        .id(IdGenerator.newJobId())
+        .type(handler.type())
+        .status(Job.QUEUED)
+        .priority(request.getPriority() == null ? DEFAULT_PRIORITY : request.getPriority())
+        .params(params)
+        .createdAt(now)
+        .updatedAt(now)
+        .build());
+    } catch (RuntimeException ex) {
+      jobRunner.cancelReservation();
+      throw ex;
+    }
+    jobRunner.enqueueReserved(job);
+    return jobParser.toDto(job);
+  }
+
+  public JobDto getJob(String id) {
+    return jobParser.toDto(jobEntityComponent.getRequired(id));
+  }
+
+  public SseEmitter streamJob(String id) {
+    Job job = jobEntityComponent.getRequired(id);
+    SseEmitter emitter = new SseEmitter(jobProperties.getStreamTimeoutMillis());
+    JobDto current = jobParser.toDto(job);
+    if (isFinished(job)) {
+      if (jobEventBroadcaster.send(emitter, current)) {
+        emitter.complete();
+      }
+      return emitter;
+    }
+    jobEventBroadcaster.register(id, emitter);
+    Job reloaded = jobEntityComponent.getRequired(id);
+    if (isFinished(reloaded)) {
+      jobEventBroadcaster.finish(jobParser.toDto(reloaded));
+      return emitter;
+    }
+    jobEventBroadcaster.send(emitter, current);
+    return emitter;
+  }
+
+  public JobDto cancelJob(String id) {
+    Job job = jobEntityComponent.getRequired(id);
+    if (isFinished(job)) {
+      return jobParser.toDto(job);
+    }
+    Job cancelled = jobEntityComponent.cancelQueued(id);
+    if (cancelled != null) {
+      JobDto dto = jobParser.toDto(cancelled);
+      jobEventBroadcaster.finish(dto);
+      return dto;
+    }
+    Job requested = jobEntityComponent.requestCancel(id);
+    return jobParser.toDto(requested != null ? requested : jobEntityComponent.getRequired(id));
+  }
+
+  public GridFSDownloadStream openResult(String id) {
+    Job job = jobEntityComponent.getRequired(id);
+    Object fileId = job.getResult() == null ? null : job.getResult().get("fileId");
+    if (!Job.SUCCEEDED.equals(job.getStatus()) || fileId == null) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job não possui arquivo de resultado.");
+    }
+    return jobResultStore.open(fileId.toString());
+  }
+
+  private boolean isFinished(Job job) {
+    return Job.SUCCEEDED.equals(job.getStatus())
+      || Job.FAILED.equals(job.getStatus())
+      || Job.CANCELLED.equals(job.getStatus());
+  }
+}
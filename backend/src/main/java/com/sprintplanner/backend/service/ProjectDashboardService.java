@@ -0,0 +1,191 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.component.SprintSummaryFactory;
+import com.sprintplanner.backend.domain.MemberSummary;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.SprintSummary;
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import com.sprintplanner.backend.domain.WorkloadRow;
+import com.sprintplanner.backend.dto.MemberDashboardDto;
+import com.sprintplanner.backend.dto.ProjectDashboardDto;
+import com.sprintplanner.backend.dto.SprintDashboardDto;
+import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.VersionedCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ProjectDashboardService {
+  private static final int CACHE_SIZE = 2048;
+
+  private final ProjectEntityComponent projectEntityComponent;
+  private final SprintEntityComponent sprintEntityComponent;
+  private final SprintSummaryFactory sprintSummaryFactory;
+  private final WorkingCalendarService workingCalendarService;
+  private final WorkloadService workloadService;
+  private final HolidayCalendarService holidayCalendarService;
+  private final VersionedCache<SprintSummary> legacySummaryCache = new VersionedCache<>(CACHE_SIZE);
+
+  public ProjectDashboardService(
+    ProjectEntityComponent projectEntityComponent,
+    SprintEntityComponent sprintEntityComponent,
+    SprintSummaryFactory sprintSummaryFactory,
+    WorkingCalendarService workingCalendarService,
+    WorkloadService workloadService,
+    HolidayCalendarService holidayCalendarService
+  ) {
+    this.projectEntityComponent = projectEntityComponent;
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.sprintSummaryFactory = sprintSummaryFactory;
+    this.workingCalendarService = workingCalendarService;
+    this.workloadService = workloadService;
+    this.holidayCalendarService = holidayCalendarService;
+  }
+
+  public ProjectDashboardDto getDashboard(String projectId) {
+    projectEntityComponent.getRequired(projectId);
+    List<SprintDocument> metas = sprintEntityComponent.findSummariesByProjectId(projectId);
+
+    Map<String, SprintSummary> summaries = new LinkedHashMap<>();
+    List<String> missing = new ArrayList<>();
+    for (SprintDocument meta : metas) {
+      SprintSummary summary = meta.getSummary() != null
+        ? meta.getSummary()
+        : legacySummaryCache.get(meta.getId(), DateTimeUtil.toIso(meta.getUpdatedAt()));
+      summaries.put(meta.getId(), summary);
+      if (summary == null) {
+        missing.add(meta.getId());
+      }
+    }
+    for (SprintDocument sprint : sprintEntityComponent.findAllById(missing)) {
+      workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+      SprintSummary summary = sprintSummaryFactory.build(sprint.getState());
+      if (summary != null) {
+        legacySummaryCache.put(sprint.getId(), DateTimeUtil.toIso(sprint.getUpdatedAt()), summary);
+        summaries.put(sprint.getId(), summary);
+      }
+    }
+
+    String holidayVersion = holidayCalendarService.calendarVersion(projectId);
+    Map<String, WorkloadMatrix> workloads = new HashMap<>();
+    for (WorkloadMatrix matrix : workloadService.findByProjectId(projectId)) {
+      workloads.put(matrix.getSprintId(), matrix);
+    }
+
+    List<SprintDashboardDto> sprints = new ArrayList<>();
+    for (SprintDocument meta : metas) {
+      SprintDashboardDto sprint = toSprintDashboard(meta, summaries.get(meta.getId()));
+      WorkloadMatrix workload = workloads.get(meta.getId());
+      if (workload != null && workloadService.isCurrent(workload, meta.getUpdatedAt(), holidayVersion)) {
+        applyWorkload(sprint, workload);
+      }
+      sprints.add(sprint);
+    }
+    return aggregate(projectId, sprints);
+  }
+
+  private SprintDashboardDto toSprintDashboard(SprintDocument meta, SprintSummary summary) {
+    SprintDashboardDto dto = SprintDashboardDto.builder()
+      .id(meta.getId())
+      .title(meta.getTitle())
+      .startDate(meta.getStartDate())
+      .endDate(meta.getEndDate())
+      .status(meta.getStatus())
+      .updatedAt(DateTimeUtil.toIso(meta.getUpdatedAt()))
+      .members(new ArrayList<>())
+      .build();
+    if (summary == null) {
+      return dto;
+    }
+    dto.setWorkingDays(summary.getWorkingDays());
+    dto.setMemberCount(summary.getMemberCount());
+    dto.setEventCount(summary.getEventCount());
+    dto.setTaskCount(summary.getTaskCount());
+    dto.setCompletedTaskCount(summary.getTaskCountByStatus() == null
+      ? 0
+      : summary.getTaskCountByStatus().getOrDefault("done", 0));
+    dto.setCommittedStoryPoints(summary.getTotalStoryPoints());
+    dto.setCompletedStoryPoints(summary.getCompletedStoryPoints());
+    dto.setCapacityHours(summary.getTeamCapacityMinutes() / 60.0);
+    dto.setCapacityStoryPoints(summary.getTeamCapacityStoryPoints());
+    for (MemberSummary member : safeList(summary.getMembers())) {
+      dto.getMembers().add(MemberDashboardDto.builder()
+        .name(member.getName())
+        .roleType(member.getRoleType())
+        .sprintCount(1)
+        .taskCount(member.getTaskCount())
+        .capacityHours(member.getCapacityMinutes() / 60.0)
+        .capacityStoryPoints(member.getCapacityStoryPoints())
+        .committedStoryPoints(member.getStoryPoints())
+        .completedStoryPoints(member.getCompletedStoryPoints())
+        .build());
+    }
+    return dto;
+  }
+
+  private void applyWorkload(SprintDashboardDto sprint, WorkloadMatrix workload) {
+    Map<String, MemberDashboardDto> members = new HashMap<>();
+    for (MemberDashboardDto member : sprint.getMembers()) {
+      members.put(member.getName(), member);
+    }
+    for (WorkloadRow row : safeList(workload.getRows())) {
+      double assignedHours = row.getTotalLoadMinutes() / 60.0;
+      sprint.setAssignedHours(sprint.getAssignedHours() + assignedHours);
+      sprint.setWarningDays(sprint.getWarningDays() + row.getWarningDays());
+      sprint.setErrorDays(sprint.getErrorDays() + row.getErrorDays());
+      MemberDashboardDto member = members.get(row.getMember());
+      if (member != null) {
+        member.setAssignedHours(assignedHours);
+        member.setWarningDays(row.getWarningDays());
+        member.setErrorDays(row.getErrorDays());
+      }
+    }
+  }
+
+  private ProjectDashboardDto aggregate(String projectId, List<SprintDashboardDto> sprints) {
+    Map<String, MemberDashboardDto> members = new LinkedHashMap<>();
+    ProjectDashboardDto dashboard = ProjectDashboardDto.builder()
+      .projectId(projectId)
+      .sprintCount(sprints.size())
+      .sprints(sprints)
+      .build();
+    for (SprintDashboardDto sprint : sprints) {
+      dashboard.setTaskCount(dashboard.getTaskCount() + sprint.getTaskCount());
+      dashboard.setCompletedTaskCount(dashboard.getCompletedTaskCount() + sprint.getCompletedTaskCount());
+      dashboard.setCommittedStoryPoints(dashboard.getCommittedStoryPoints() + sprint.getCommittedStoryPoints());
+      dashboard.setCompletedStoryPoints(dashboard.getCompletedStoryPoints() + sprint.getCompletedStoryPoints());
+      dashboard.setCapacityHours(dashboard.getCapacityHours() + sprint.getCapacityHours());
+      dashboard.setCapacityStoryPoints(dashboard.getCapacityStoryPoints() + sprint.getCapacityStoryPoints());
+      dashboard.setAssignedHours(dashboard.getAssignedHours() + sprint.getAssignedHours());
+      dashboard.setWarningDays(dashboard.getWarningDays() + sprint.getWarningDays());
+      dashboard.setErrorDays(dashboard.getErrorDays() + sprint.getErrorDays());
+      for (MemberDashboardDto member : sprint.getMembers()) {
+        MemberDashboardDto total = members.computeIfAbsent(member.getName(), name -> MemberDashboardDto.builder()
+          .name(name)
+          .roleType(member.getRoleType())
+          .build());
+        total.setSprintCount(total.getSprintCount() + 1);
+        total.setTaskCount(total.getTaskCount() + member.getTaskCount());
+        total.setCapacityHours(total.getCapacityHours() + member.getCapacityHours());
+        total.setCapacityStoryPoints(total.getCapacityStoryPoints() + member.getCapacityStoryPoints());
+        total.setCommittedStoryPoints(total.getCommittedStoryPoints() + member.getCommittedStoryPoints());
+        total.setCompletedStoryPoints(total.getCompletedStoryPoints() + member.getCompletedStoryPoints());
+        total.setAssignedHours(total.getAssignedHours() + member.getAssignedHours());
+        total.setWarningDays(total.getWarningDays() + member.getWarningDays());
+        total.setErrorDays(total.getErrorDays() + member.getErrorDays());
+      }
+    }
+    dashboard.setMembers(new ArrayList<>(members.values()));
+    return dashboard;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
@@ -2,6 +2,8 @@ package com.sprintplanner.backend.service;
 
 import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
 import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintTemplateEntityComponent;
+import com.sprintplanner.backend.entitycomponent.TaskIndexEntityComponent;
 import com.sprintplanner.backend.domain.Project;
 import com.sprintplanner.backend.dto.ProjectInputDto;
 import com.sprintplanner.backend.dto.ProjectMetaDto;
@@ -18,17 +20,32 @@ public class ProjectService {
   private final SprintEntityComponent sprintEntityComponent;
   private final ProjectParser projectParser;
   private final ProjectValidator projectValidator;
+  private final TaskIndexEntityComponent taskIndexEntityComponent;
+  private final HolidayCalendarService holidayCalendarService;
+  private final FollowUpService followUpService;
+  private final WorkloadService workloadService;
+  private final SprintTemplateEntityComponent sprintTemplateEntityComponent;
 
   public ProjectService(
     ProjectEntityComponent projectEntityComponent,
     SprintEntityComponent sprintEntityComponent,
     ProjectParser projectParser,
-    ProjectValidator projectValidator
+    ProjectValidator projectValidator,
+    TaskIndexEntityComponent taskIndexEntityComponent,
+    HolidayCalendarService holidayCalendarService,
+    FollowUpService followUpService,
+    WorkloadService workloadService,
+    SprintTemplateEntityComponent sprintTemplateEntityComponent
   ) {
     this.projectEntityComponent = projectEntityComponent;
     this.sprintEntityComponent = sprintEntityComponent;
     this.projectParser = projectParser;
     this.projectValidator = projectValidator;
+    this.taskIndexEntityComponent = taskIndexEntityComponent;
+    this.holidayCalendarService = holidayCalendarService;
+    this.followUpService = followUpService;
+    this.workloadService = workloadService;
+    this.sprintTemplateEntityComponent = sprintTemplateEntityComponent;
   }
 
   public List<ProjectMetaDto> listProjects() {
@@ -52,7 +69,7 @@ public class ProjectService {
       project.setStatus("active");
     }
     project.setId(IdGenerator.newProjectId());
-    project.setUpdatedAt(DateTimeUtil.nowIso());
+    project.setUpdatedAt(DateTimeUtil.now());
     Project saved = projectEntityComponent.save(project);
     return projectParser.toDto(saved);
   }
@@ -77,7 +94,7 @@ public class ProjectService {
     if (project.getStatus() == null || project.getStatus().isBlank()) {
       project.setStatus(existing.getStatus() == null ? "active" : existing.getStatus());
     }
-    project.setUpdatedAt(DateTimeUtil.nowIso());
+    project.setUpdatedAt(DateTimeUtil.now());
     Project saved = projectEntityComponent.save(project);
     return projectParser.toDto(saved);
   }
@@ -85,6 +102,11 @@ public class ProjectService {
   public void deleteProject(String id) {
     projectEntityComponent.getRequired(id);
     sprintEntityComponent.deleteByProjectId(id);
+    taskIndexEntityComponent.deleteByProjectId(id);
+    holidayCalendarService.deleteProjectCalendar(id);
+    followUpService.deleteByProjectId(id);
+    workloadService.deleteByProjectId(id);
+    sprintTemplateEntityComponent.deleteByProjectId(id);
     projectEntityComponent.deleteById(id);
   }
 }
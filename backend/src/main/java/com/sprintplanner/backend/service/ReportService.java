@@ -0,0 +1,262 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.component.SprintSummaryFactory;
+import com.sprintplanner.backend.domain.MemberSummary;
+import com.sprintplanner.backend.domain.Project;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.SprintSummary;
+import com.sprintplanner.backend.domain.TaskIndexEntry;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskWorkSegment;
+import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.TaskIndexEntityComponent;
+import com.sprintplanner.backend.report.ReportDocument;
+import com.sprintplanner.backend.report.ReportExport;
+import com.sprintplanner.backend.report.ReportFormat;
+import com.sprintplanner.backend.report.ReportSection;
+import com.sprintplanner.backend.report.ReportWriter;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import com.sprintplanner.backend.validators.ReportRequestValidator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReportService {
+  private static final List<String> SUMMARY_HEADERS = List.of("Indicador", "Valor");
+  private static final List<String> TASK_HEADERS = List.of(
+    "ID", "Nome", "Responsável", "Status", "Story points", "Prazo", "Início calculado", "Fim calculado",
+    "Concluída em", "Atrasada", "Dependências"
+  );
+  private static final List<String> TIMELINE_HEADERS = List.of("Tarefa", "Nome", "Membro", "Data", "Início", "Fim", "Minutos");
+  private static final List<String> MEMBER_HEADERS = List.of(
+    "Membro", "Tipo", "Capacidade (h)", "Capacidade (SP)", "Tarefas", "Story points", "Concluídos"
+  );
+  private static final List<String> SPRINT_HEADERS = List.of(
+    "Sprint", "Status", "Início", "Fim", "Tarefas", "Story points", "Concluídos", "Capacidade (SP)",
+    "Atrasadas", "Término calculado"
+  );
+  private static final List<String> PROJECT_TASK_HEADERS = List.of(
+    "Sprint", "ID", "Nome", "Responsável", "Status", "Story points", "Prazo", "Fim calculado", "Atrasada"
+  );
+
+  private final SprintEntityComponent sprintEntityComponent;
+  private final ProjectEntityComponent projectEntityComponent;
+  private final TaskIndexEntityComponent taskIndexEntityComponent;
+  private final SprintSummaryFactory sprintSummaryFactory;
+  private final WorkingCalendarService workingCalendarService;
+  private final ReportRequestValidator reportRequestValidator;
+  private final Map<ReportFormat, ReportWriter> writers = new EnumMap<>(ReportFormat.class);
+
+  public ReportService(
+    SprintEntityComponent sprintEntityComponent,
+    ProjectEntityComponent projectEntityComponent,
+    TaskIndexEntityComponent taskIndexEntityComponent,
+    SprintSummaryFactory sprintSummaryFactory,
+    WorkingCalendarService workingCalendarService,
+    ReportRequestValidator reportRequestValidator,
+    List<ReportWriter> reportWriters
+  ) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.projectEntityComponent = projectEntityComponent;
+    this.taskIndexEntityComponent = taskIndexEntityComponent;
+    this.sprintSummaryFactory = sprintSummaryFactory;
+    this.workingCalendarService = workingCalendarService;
+    this.reportRequestValidator = reportRequestValidator;
+    for (ReportWriter writer : reportWriters) {
+      writers.put(writer.format(), writer);
+    }
+  }
+
+  public ReportExport sprintReport(String sprintId, String format) {
+    reportRequestValidator.validateFormatOrThrow(format);
+    ReportFormat reportFormat = ReportFormat.from(format);
+    SprintDocument sprint = sprintEntityComponent.getRequired(sprintId);
+    RootPersistedState state = sprint.getState();
+    workingCalendarService.expand(sprint.getProjectId(), state);
+    SprintSummary summary = sprint.getSummary() != null ? sprint.getSummary() : sprintSummaryFactory.build(state);
+    List<TaskItem> tasks = state == null || state.getTasks() == null ? List.of() : safeList(state.getTasks().getItems());
+
+    ReportDocument document = new ReportDocument(
+      "Sprint " + valueOrId(sprint.getTitle(), sprint.getId()),
+      List.of(
+        new ReportSection("Resumo", SUMMARY_HEADERS, () -> summaryRows(sprint, summary)),
+        new ReportSection("Tarefas", TASK_HEADERS, () -> taskRows(state, tasks)),
+        new ReportSection("Cronograma", TIMELINE_HEADERS, () -> timelineRows(tasks)),
+        new ReportSection("Membros", MEMBER_HEADERS, () -> memberRows(summary))
+      ),
+      1
+    );
+    return export("sprint-" + sprint.getId(), reportFormat, document);
+  }
+
+  public ReportExport projectReport(String projectId, String format) {
+    reportRequestValidator.validateFormatOrThrow(format);
+    ReportFormat reportFormat = ReportFormat.from(format);
+    Project project = projectEntityComponent.getRequired(projectId);
+    List<SprintDocument> sprints = sprintEntityComponent.findSummariesByProjectId(projectId);
+
+    ReportDocument document = new ReportDocument(
+      "Projeto " + valueOrId(project.getName(), project.getId()),
+      List.of(
+        new ReportSection("Sprints", SPRINT_HEADERS, () -> sprints.stream().map(this::sprintRow)),
+        new ReportSection("Tarefas", PROJECT_TASK_HEADERS, () -> taskIndexEntityComponent.streamByProjectId(projectId)
+          .map(this::projectTaskRow))
+      ),
+      1
+    );
+    return export("project-" + project.getId(), reportFormat, document);
+  }
+
+  private ReportExport export(String baseName, ReportFormat format, ReportDocument document) {
+    ReportWriter writer = writers.get(format);
+    return new ReportExport(baseName + "." + format.extension(), format, out -> writer.write(document, out));
+  }
+
+  private Stream<List<Object>> summaryRows(SprintDocument sprint, SprintSummary summary) {
+    List<List<Object>> rows = new ArrayList<>();
+    rows.add(Arrays.asList("Sprint", sprint.getTitle()));
+    rows.add(Arrays.asList("Status", sprint.getStatus()));
+    rows.add(Arrays.asList("Início", sprint.getStartDate()));
+    rows.add(Arrays.asList("Fim", sprint.getEndDate()));
+    if (summary != null) {
+      rows.add(Arrays.asList("Dias úteis", summary.getWorkingDays()));
+      rows.add(Arrays.asList("Membros", summary.getMemberCount()));
+      rows.add(Arrays.asList("Tarefas", summary.getTaskCount()));
+      rows.add(Arrays.asList("Story points", summary.getTotalStoryPoints()));
+      rows.add(Arrays.asList("Story points concluídos", summary.getCompletedStoryPoints()));
+      rows.add(Arrays.asList("Capacidade (h)", summary.getTeamCapacityMinutes() / 60.0));
+      rows.add(Arrays.asList("Capacidade (SP)", summary.getTeamCapacityStoryPoints()));
+      rows.add(Arrays.asList("Tarefas atrasadas", summary.getOverdueTaskCount()));
+      rows.add(Arrays.asList("Término calculado", summary.getComputedFinishDate()));
+    }
+    return rows.stream();
+  }
+
+  private Stream<List<Object>> taskRows(RootPersistedState state, List<TaskItem> tasks) {
+    if (tasks.isEmpty()) {
+      return Stream.empty();
+    }
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    List<List<Object>> rows = new ArrayList<>(tasks.size());
+    for (int i = 0; i < tasks.size(); i++) {
+      TaskItem task = tasks.get(i);
+      if (task == null) {
+        continue;
+      }
+      int due = dates.taskDueDay(i);
+      int computedEnd = dates.taskComputedEndDay(i);
+      boolean late = !"done".equals(task.getStatus())
+        && EpochDays.isPresent(due)
+        && EpochDays.isPresent(computedEnd)
+        && computedEnd > due;
+      rows.add(Arrays.asList(
+        task.getId(),
+        task.getName(),
+        task.getAssigneeMemberName(),
+        task.getStatus() == null ? "todo" : task.getStatus(),
+        task.getStoryPoints(),
+        task.getDueDate(),
+        task.getComputedStartDate(),
+        task.getComputedEndDate(),
+        task.getCompletedAt(),
+        late,
+        task.getDependencies()
+      ));
+    }
+    return rows.stream();
+  }
+
+  private Stream<List<Object>> timelineRows(List<TaskItem> tasks) {
+    List<TimelineRow> rows = new ArrayList<>();
+    for (TaskItem task : tasks) {
+      if (task == null) {
+        continue;
+      }
+      for (TaskWorkSegment segment : safeList(task.getComputedTimeline())) {
+        if (segment != null) {
+          rows.add(new TimelineRow(task, segment));
+        }
+      }
+    }
+    rows.sort(Comparator.comparing((TimelineRow row) -> nullToEmpty(row.segment().getDate()))
+      .thenComparing(row -> nullToEmpty(row.segment().getStartTime())));
+    return rows.stream().map(row -> Arrays.asList(
+      row.task().getId(),
+      row.task().getName(),
+      row.task().getAssigneeMemberName(),
+      row.segment().getDate(),
+      row.segment().getStartTime(),
+      row.segment().getEndTime(),
+      row.segment().getMinutes()
+    ));
+  }
+
+  private Stream<List<Object>> memberRows(SprintSummary summary) {
+    if (summary == null) {
+      return Stream.empty();
+    }
+    return safeList(summary.getMembers()).stream().map((MemberSummary member) -> Arrays.asList(
+      member.getName(),
+      member.getRoleType(),
+      member.getCapacityMinutes() / 60.0,
+      member.getCapacityStoryPoints(),
+      member.getTaskCount(),
+      member.getStoryPoints(),
+      member.getCompletedStoryPoints()
+    ));
+  }
+
+  private List<Object> sprintRow(SprintDocument sprint) {
+    SprintSummary summary = sprint.getSummary();
+    return Arrays.asList(
+      sprint.getTitle(),
+      sprint.getStatus(),
+      sprint.getStartDate(),
+      sprint.getEndDate(),
+      summary == null ? null : summary.getTaskCount(),
+      summary == null ? null : summary.getTotalStoryPoints(),
+      summary == null ? null : summary.getCompletedStoryPoints(),
+      summary == null ? null : summary.getTeamCapacityStoryPoints(),
+      summary == null ? null : summary.getOverdueTaskCount(),
+      summary == null ? null : summary.getComputedFinishDate()
+    );
+  }
+
+  private List<Object> projectTaskRow(TaskIndexEntry entry) {
+    return Arrays.asList(
+      entry.getSprintTitle(),
+      entry.getTaskId(),
+      entry.getName(),
+      entry.getAssigneeMemberName(),
+      entry.getStatus(),
+      entry.getStoryPoints(),
+      entry.getDueDate(),
+      entry.getComputedEndDate(),
+      entry.isLate()
+    );
+  }
+
+  private String valueOrId(String value, String id) {
+    return value == null || value.isBlank() ? id : value;
+  }
+
+  private String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+
+  private record TimelineRow(TaskItem task, TaskWorkSegment segment) {
+  }
+}
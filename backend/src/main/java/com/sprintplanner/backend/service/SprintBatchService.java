@@ -0,0 +1,104 @@
+package com.sprintplanner.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintplanner.backend.component.SprintStateCache;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.StateSection;
+import com.sprintplanner.backend.dto.SprintBatchErrorDto;
+import com.sprintplanner.backend.dto.SprintBatchGetRequestDto;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.parser.SprintParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.validators.SprintRequestValidator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SprintBatchService {
+  private static final byte NEW_LINE = '\n';
+
+  private final SprintEntityComponent sprintEntityComponent;
+  private final SprintParser sprintParser;
+  private final SprintRequestValidator sprintRequestValidator;
+  private final WorkingCalendarService workingCalendarService;
+  private final SprintStateCache sprintStateCache;
+  private final ObjectMapper objectMapper;
+
+  public SprintBatchService(
+    SprintEntityComponent sprintEntityComponent,
+    SprintParser sprintParser,
+    SprintRequestValidator sprintRequestValidator,
+    WorkingCalendarService workingCalendarService,
+    SprintStateCache sprintStateCache,
+    ObjectMapper objectMapper
+  ) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.sprintParser = sprintParser;
+    this.sprintRequestValidator = sprintRequestValidator;
+    this.workingCalendarService = workingCalendarService;
+    this.sprintStateCache = sprintStateCache;
+    this.objectMapper = objectMapper;
+  }
+
+  public void batchGet(SprintBatchGetRequestDto request, OutputStream out) throws IOException {
+    sprintRequestValidator.validateBatchOrThrow(request);
+    EnumSet<StateSection> sections = sprintRequestValidator.parseFieldsOrThrow(request.getFields() == null
+      ? null
+      : String.join(",", request.getFields()));
+    Set<String> ids = new LinkedHashSet<>();
+    for (String id : request.getIds()) {
+      ids.add(id.trim());
+    }
+
+    Set<String> pending = new LinkedHashSet<>(ids);
+    Set<String> misses = new LinkedHashSet<>();
+    for (SprintDocument meta : sprintEntityComponent.findMetaById(ids)) {
+      RootPersistedState cached = sprintStateCache.get(meta.getId(), DateTimeUtil.toIso(meta.getUpdatedAt()), sections);
+      if (cached == null) {
+        misses.add(meta.getId());
+        continue;
+      }
+      meta.setState(cached);
+      writeSprint(out, meta);
+      pending.remove(meta.getId());
+    }
+
+    try (Stream<SprintDocument> stream = sprintEntityComponent.streamById(misses, sections)) {
+      Iterator<SprintDocument> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        SprintDocument sprint = iterator.next();
+        if (sections.isEmpty()) {
+          sprintStateCache.put(sprint.getId(), DateTimeUtil.toIso(sprint.getUpdatedAt()), sprint.getState());
+        }
+        writeSprint(out, sprint);
+        pending.remove(sprint.getId());
+      }
+    }
+    for (String id : pending) {
+      writeLine(out, objectMapper.writeValueAsBytes(SprintBatchErrorDto.builder()
+        .id(id)
+        .status(HttpStatus.NOT_FOUND.value())
+        .message("Sprint não encontrada.")
+        .build()));
+    }
+  }
+
+  private void writeSprint(OutputStream out, SprintDocument sprint) throws IOException {
+    workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+    writeLine(out, objectMapper.writeValueAsBytes(sprintParser.toStateResponseDto(sprint)));
+  }
+
+  private void writeLine(OutputStream out, byte[] line) throws IOException {
+    out.write(line);
+    out.write(NEW_LINE);
+    out.flush();
+  }
+}
@@ -1,24 +1,37 @@
 package com.sprintplanner.backend.service;
 
 import com.sprintplanner.backend.component.DefaultStateFactory;
+import com.sprintplanner.backend.component.MetricsRecorder;
+import com.sprintplanner.backend.component.SprintStateCache;
+import com.sprintplanner.backend.component.SprintStateCloner;
+import com.sprintplanner.backend.component.SprintSummaryFactory;
 import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
 import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.TaskIndexEntityComponent;
 import com.sprintplanner.backend.domain.RootPersistedState;
 import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.StateSection;
 import com.sprintplanner.backend.dto.RootPersistedStateDto;
+import com.sprintplanner.backend.dto.SprintCloneRequestDto;
 import com.sprintplanner.backend.dto.SprintMetaDto;
 import com.sprintplanner.backend.dto.SprintStateResponseDto;
 import com.sprintplanner.backend.parser.SprintParser;
 import com.sprintplanner.backend.parser.StateParser;
 import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
 import com.sprintplanner.backend.util.IdGenerator;
 import com.sprintplanner.backend.validators.SprintRequestValidator;
 import com.sprintplanner.backend.validators.SprintStateValidator;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SprintService {
+  private static final String UPDATE_OPERATION = "updateSprintState";
+
   private final SprintEntityComponent sprintEntityComponent;
   private final ProjectEntityComponent projectEntityComponent;
   private final SprintParser sprintParser;
@@ -26,6 +39,15 @@ public class SprintService {
   private final DefaultStateFactory defaultStateFactory;
   private final SprintStateValidator sprintStateValidator;
   private final SprintRequestValidator sprintRequestValidator;
+  private final SprintSummaryFactory sprintSummaryFactory;
+  private final TaskIndexEntityComponent taskIndexEntityComponent;
+  private final MetricsRecorder metricsRecorder;
+  private final WorkingCalendarService workingCalendarService;
+  private final FollowUpService followUpService;
+  private final TimelineService timelineService;
+  private final WorkloadService workloadService;
+  private final SprintStateCloner sprintStateCloner;
+  private final SprintStateCache sprintStateCache;
 
   public SprintService(
     SprintEntityComponent sprintEntityComponent,
@@ -34,7 +56,16 @@ public class SprintService {
     StateParser stateParser,
     DefaultStateFactory defaultStateFactory,
     SprintStateValidator sprintStateValidator,
-    SprintRequestValidator sprintRequestValidator
+    SprintRequestValidator sprintRequestValidator,
+    SprintSummaryFactory sprintSummaryFactory,
+    TaskIndexEntityComponent taskIndexEntityComponent,
+    MetricsRecorder metricsRecorder,
+    WorkingCalendarService workingCalendarService,
+    FollowUpService followUpService,
+    TimelineService timelineService,
+    WorkloadService workloadService,
+    SprintStateCloner sprintStateCloner,
+    SprintStateCache sprintStateCache
   ) {
     this.sprintEntityComponent = sprintEntityComponent;
     this.projectEntityComponent = projectEntityComponent;
@@ -43,26 +74,131 @@ public class SprintService {
     this.defaultStateFactory = defaultStateFactory;
     this.sprintStateValidator = sprintStateValidator;
     this.sprintRequestValidator = sprintRequestValidator;
+    this.sprintSummaryFactory = sprintSummaryFactory;
+    this.taskIndexEntityComponent = taskIndexEntityComponent;
+    this.metricsRecorder = metricsRecorder;
+    this.workingCalendarService = workingCalendarService;
+    this.followUpService = followUpService;
+    this.timelineService = timelineService;
+    this.workloadService = workloadService;
+    this.sprintStateCloner = sprintStateCloner;
+    this.sprintStateCache = sprintStateCache;
   }
 
-  public List<SprintMetaDto> listSprintSummaries(String projectId) {
-    return sprintEntityComponent.findByProjectIdOrderByUpdatedAtDesc(projectId).stream()
+  public List<SprintMetaDto> listSprintSummaries(
+    String projectId,
+    String status,
+    String sort,
+    String createdFrom,
+    String createdTo
+  ) {
+    sprintRequestValidator.validateListOrThrow(sort, createdFrom, createdTo);
+    Instant from = startOfDay(createdFrom, 0);
+    Instant to = startOfDay(createdTo, 1);
+    return sprintEntityComponent.findMetaByProjectId(projectId, status, sort, from, to).stream()
       .map(sprintParser::toMetaDto)
       .toList();
   }
 
-  public SprintStateResponseDto getSprint(String id) {
-    SprintDocument sprint = sprintEntityComponent.getRequired(id);
+  public SprintStateResponseDto getSprint(String id, String fields) {
+    EnumSet<StateSection> sections = sprintRequestValidator.parseFieldsOrThrow(fields);
+    SprintDocument sprint = load(id, sections);
+    workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
     return sprintParser.toStateResponseDto(sprint);
   }
 
+  public Object getSprintSection(String id, String section) {
+    StateSection parsed = sprintRequestValidator.parseSectionOrThrow(section);
+    SprintDocument sprint = load(id, EnumSet.of(parsed));
+    if (parsed == StateSection.CALENDAR) {
+      workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+    }
+    return stateParser.toSectionDto(sprint.getState(), parsed);
+  }
+
   public SprintStateResponseDto createSprint(String projectId, String title) {
     sprintRequestValidator.validateCreateOrThrow(projectId);
     projectEntityComponent.ensureExists(projectId);
+    return sprintParser.toStateResponseDto(insert(projectId, defaultStateFactory.buildDefaultState(title)));
+  }
 
-    RootPersistedState state = defaultStateFactory.buildDefaultState(title);
-    sprintStateValidator.validateOrThrow(state);
+  public SprintMetaDto cloneSprint(String id, SprintCloneRequestDto request) {
+    sprintRequestValidator.validateCloneOrThrow(request);
+    SprintDocument source = load(id, EnumSet.noneOf(StateSection.class));
+    RootPersistedState sourceState = source.getState() == null
+      ? defaultStateFactory.buildDefaultState(source.getTitle())
+      : source.getState();
+    sprintRequestValidator.validateCloneSourceOrThrow(sprintStateCloner.hasStartDate(sourceState), request);
+    workingCalendarService.expand(source.getProjectId(), sourceState);
+    String requestedStart = request == null ? null : request.getStartDate();
+    int startDay = requestedStart == null || requestedStart.isBlank()
+      ? sprintStateCloner.nextStartDay(sourceState)
+      : EpochDays.parseIsoDate(requestedStart);
+    String title = request == null || request.getTitle() == null || request.getTitle().isBlank()
+      ? (source.getTitle() == null ? "Sprint sem título" : source.getTitle()) + " (cópia)"
+      : request.getTitle();
+    boolean includeTasks = request != null && Boolean.TRUE.equals(request.getIncludeUnfinishedTasks());
+    RootPersistedState state = sprintStateCloner.copy(sourceState, title, startDay, includeTasks);
+    return sprintParser.toMetaDto(insert(source.getProjectId(), state));
+  }
+
+  public SprintMetaDto createFromState(String projectId, RootPersistedState state) {
+    projectEntityComponent.ensureExists(projectId);
+    return sprintParser.toMetaDto(insert(projectId, state));
+  }
+
+  public SprintStateResponseDto updateSprintState(String id, RootPersistedStateDto stateDto) {
+    SprintDocument existing = metricsRecorder.timeStage(UPDATE_OPERATION, "load", () -> load(id, EnumSet.noneOf(StateSection.class)));
+    RootPersistedState state = metricsRecorder.timeStage(UPDATE_OPERATION, "convert", () -> stateParser.toDomain(stateDto));
+    metricsRecorder.recordStatePayload(UPDATE_OPERATION, state);
+    metricsRecorder.timeStage(UPDATE_OPERATION, "validate", () -> sprintStateValidator.validateOrThrow(state));
+    metricsRecorder.timeStage(UPDATE_OPERATION, "calendar", () -> workingCalendarService.normalize(existing.getProjectId(), state));
+    RootPersistedState previousState = existing.getState();
+    Instant previousUpdatedAt = existing.getUpdatedAt();
+    existing.setState(state);
+    existing.setTitle(state.getSprint().getTitle());
+    existing.setStartDate(state.getSprint().getStartDate());
+    existing.setEndDate(state.getSprint().getEndDate());
+    existing.setStatus(state.getPlanningLifecycle().getStatus());
+    existing.setSummary(metricsRecorder.timeStage(UPDATE_OPERATION, "summary", () -> sprintSummaryFactory.build(state)));
+    existing.setUpdatedAt(DateTimeUtil.now());
+    SprintDocument saved = metricsRecorder.timeStage(UPDATE_OPERATION, "save", () ->
+      workingCalendarService.saveCompacted(state, () -> sprintEntityComponent.save(existing)));
+    metricsRecorder.timeStage(UPDATE_OPERATION, "cache", () -> cacheState(saved));
+    metricsRecorder.timeStage(UPDATE_OPERATION, "index", () -> taskIndexEntityComponent.replaceForSprint(saved));
+    metricsRecorder.timeStage(UPDATE_OPERATION, "followUp", () -> followUpService.recordSave(saved, previousState));
+    metricsRecorder.timeStage(UPDATE_OPERATION, "workload", () -> workloadService.recordSave(saved, previousState, previousUpdatedAt));
+    return metricsRecorder.timeStage(UPDATE_OPERATION, "response", () -> sprintParser.toStateResponseDto(saved));
+  }
 
+  public void rebuildDerivedData(String id) {
+    SprintDocument sprint = sprintEntityComponent.getRequired(id);
+    RootPersistedState state = sprint.getState();
+    if (state == null) {
+      return;
+    }
+    workingCalendarService.normalize(sprint.getProjectId(), state);
+    sprint.setSummary(sprintSummaryFactory.build(state));
+    SprintDocument saved = workingCalendarService.saveCompacted(state, () -> sprintEntityComponent.save(sprint));
+    cacheState(saved);
+    taskIndexEntityComponent.replaceForSprint(saved);
+    followUpService.recordSave(saved, state);
+    workloadService.recordSave(saved, null, null);
+  }
+
+  public void deleteSprint(String id) {
+    SprintDocument sprint = sprintEntityComponent.getRequiredMeta(id);
+    sprintEntityComponent.delete(sprint);
+    taskIndexEntityComponent.deleteBySprintId(id);
+    followUpService.deleteBySprintId(id);
+    workloadService.deleteBySprintId(id);
+    timelineService.evict(id);
+    sprintStateCache.evict(id);
+  }
+
+  private SprintDocument insert(String projectId, RootPersistedState state) {
+    sprintStateValidator.validateOrThrow(state);
+    workingCalendarService.normalize(projectId, state);
     SprintDocument sprint = SprintDocument.builder()
       .id(IdGenerator.newSprintId())
       .projectId(projectId)
@@ -70,29 +206,45 @@ public class SprintService {
       .startDate(state.getSprint().getStartDate())
       .endDate(state.getSprint().getEndDate())
       .status(state.getPlanningLifecycle().getStatus())
-      .updatedAt(DateTimeUtil.nowIso())
+      .updatedAt(DateTimeUtil.now())
+      .summary(sprintSummaryFactory.build(state))
       .state(state)
       .build();
-    SprintDocument saved = sprintEntityComponent.save(sprint);
-    return sprintParser.toStateResponseDto(saved);
+    SprintDocument saved = workingCalendarService.saveCompacted(state, () -> sprintEntityComponent.insert(sprint));
+    cacheState(saved);
+    taskIndexEntityComponent.replaceForSprint(saved);
+    followUpService.recordSave(saved, null);
+    workloadService.recordSave(saved, null, null);
+    return saved;
   }
 
-  public SprintStateResponseDto updateSprintState(String id, RootPersistedStateDto stateDto) {
-    SprintDocument existing = sprintEntityComponent.getRequired(id);
-    RootPersistedState state = stateParser.toDomain(stateDto);
-    sprintStateValidator.validateOrThrow(state);
-    existing.setState(state);
-    existing.setTitle(state.getSprint().getTitle());
-    existing.setStartDate(state.getSprint().getStartDate());
-    existing.setEndDate(state.getSprint().getEndDate());
-    existing.setStatus(state.getPlanningLifecycle().getStatus());
-    existing.setUpdatedAt(DateTimeUtil.nowIso());
-    SprintDocument saved = sprintEntityComponent.save(existing);
-    return sprintParser.toStateResponseDto(saved);
+  private SprintDocument load(String id, EnumSet<StateSection> sections) {
+    if (!sprintStateCache.isEnabled()) {
+      return sections.isEmpty() ? sprintEntityComponent.getRequired(id) : sprintEntityComponent.getRequiredSections(id, sections);
+    }
+    SprintDocument meta = sprintEntityComponent.getRequiredMeta(id);
+    RootPersistedState cached = sprintStateCache.get(id, DateTimeUtil.toIso(meta.getUpdatedAt()), sections);
+    if (cached != null) {
+      meta.setState(cached);
+      return meta;
+    }
+    if (!sections.isEmpty()) {
+      return sprintEntityComponent.getRequiredSections(id, sections);
+    }
+    SprintDocument sprint = sprintEntityComponent.getRequired(id);
+    sprintStateCache.put(id, DateTimeUtil.toIso(sprint.getUpdatedAt()), sprint.getState());
+    return sprint;
   }
 
-  public void deleteSprint(String id) {
-    sprintEntityComponent.getRequired(id);
-    sprintEntityComponent.deleteById(id);
+  private void cacheState(SprintDocument saved) {
+    workingCalendarService.saveCompacted(saved.getState(), () ->
+      sprintStateCache.put(saved.getId(), DateTimeUtil.toIso(saved.getUpdatedAt()), saved.getState()));
+  }
+
+  private Instant startOfDay(String date, int plusDays) {
+    if (date == null || date.isBlank()) {
+      return null;
+    }
+    return EpochDays.toLocalDate(EpochDays.parseIsoDate(date) + plusDays).atStartOfDay(ZoneOffset.UTC).toInstant();
   }
 }
@@ -0,0 +1,120 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.component.SprintStateCloner;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.SprintTemplate;
+import com.sprintplanner.backend.dto.SprintCloneRequestDto;
+import com.sprintplanner.backend.dto.SprintMetaDto;
+import com.sprintplanner.backend.dto.SprintTemplateDto;
+import com.sprintplanner.backend.dto.SprintTemplateRequestDto;
+import com.sprintplanner.backend.entitycomponent.ProjectEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.SprintTemplateEntityComponent;
+import com.sprintplanner.backend.parser.SprintTemplateParser;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.IdGenerator;
+import com.sprintplanner.backend.validators.SprintRequestValidator;
+import com.sprintplanner.backend.validators.SprintTemplateValidator;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class SprintTemplateService {
+  private final SprintTemplateEntityComponent sprintTemplateEntityComponent;
+  private final SprintEntityComponent sprintEntityComponent;
+  private final ProjectEntityComponent projectEntityComponent;
+  private final SprintTemplateParser sprintTemplateParser;
+  private final SprintTemplateValidator sprintTemplateValidator;
+  private final SprintRequestValidator sprintRequestValidator;
+  private final SprintStateCloner sprintStateCloner;
+  private final WorkingCalendarService workingCalendarService;
+  private final SprintService sprintService;
+  private final Clock clock;
+
+  public SprintTemplateService(
+    SprintTemplateEntityComponent sprintTemplateEntityComponent,
+    SprintEntityComponent sprintEntityComponent,
+    ProjectEntityComponent projectEntityComponent,
+    SprintTemplateParser sprintTemplateParser,
+    SprintTemplateValidator sprintTemplateValidator,
+    SprintRequestValidator sprintRequestValidator,
+    SprintStateCloner sprintStateCloner,
+    WorkingCalendarService workingCalendarService,
+    SprintService sprintService,
+    Clock clock
+  ) {
+    this.sprintTemplateEntityComponent = sprintTemplateEntityComponent;
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.projectEntityComponent = projectEntityComponent;
+    this.sprintTemplateParser = sprintTemplateParser;
+    this.sprintTemplateValidator = sprintTemplateValidator;
+    this.sprintRequestValidator = sprintRequestValidator;
+    this.sprintStateCloner = sprintStateCloner;
+    this.workingCalendarService = workingCalendarService;
+    this.sprintService = sprintService;
+    this.clock = clock;
+  }
+
+  public List<SprintTemplateDto> listTemplates(String projectId) {
+    projectEntityComponent.getRequired(projectId);
+    return sprintTemplateEntityComponent.findMetaByProjectId(projectId).stream()
+      .map(sprintTemplateParser::toDto)
+      .toList();
+  }
+
+  public SprintTemplateDto createTemplate(String projectId, SprintTemplateRequestDto request) {
+    projectEntityComponent.getRequired(projectId);
+    sprintTemplateValidator.validateOrThrow(request);
+    SprintDocument source = sprintEntityComponent.getRequired(request.getSprintId().trim());
+    if (!projectId.equals(source.getProjectId()) || source.getState() == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A sprint informada não pertence ao projeto.");
+    }
+    workingCalendarService.expand(source.getProjectId(), source.getState());
+    boolean includeTasks = Boolean.TRUE.equals(request.getIncludeUnfinishedTasks());
+    RootPersistedState state = sprintStateCloner.copy(source.getState(), null, EpochDays.NONE, includeTasks);
+    SprintTemplate template = SprintTemplate.builder()
+      .id(IdGenerator.newTemplateId())
+      .projectId(projectId)
+      .name(request.getName().trim())
+      .sourceSprintId(source.getId())
+      .includesTasks(includeTasks)
+      .durationDays(sprintStateCloner.durationDays(state))
+      .memberCount(state.getMembers() == null || state.getMembers().getItems() == null ? 0 : state.getMembers().getItems().size())
+      .eventCount(state.getEvents() == null || state.getEvents().getItems() == null ? 0 : state.getEvents().getItems().size())
+      .taskCount(state.getTasks().getItems().size())
+      .createdAt(DateTimeUtil.now())
+      .state(state)
+      .build();
+    return sprintTemplateParser.toDto(sprintTemplateEntityComponent.insert(template));
+  }
+
+  public SprintMetaDto createSprint(String templateId, SprintCloneRequestDto request) {
+    sprintRequestValidator.validateCloneOrThrow(request);
+    SprintTemplate template = sprintTemplateEntityComponent.getRequired(templateId);
+    boolean hasStartDate = sprintStateCloner.hasStartDate(template.getState());
+    sprintRequestValidator.validateCloneSourceOrThrow(hasStartDate, request);
+    String requestedStart = request == null ? null : request.getStartDate();
+    int startDay;
+    if (requestedStart != null && !requestedStart.isBlank()) {
+      startDay = EpochDays.parseIsoDate(requestedStart);
+    } else {
+      startDay = hasStartDate ? EpochDays.nextWeekday((int) LocalDate.now(clock).toEpochDay()) : EpochDays.NONE;
+    }
+    String title = request == null || request.getTitle() == null || request.getTitle().isBlank()
+      ? template.getName()
+      : request.getTitle();
+    RootPersistedState state = sprintStateCloner.copy(template.getState(), title, startDay, true);
+    return sprintService.createFromState(template.getProjectId(), state);
+  }
+
+  public void deleteTemplate(String id) {
+    sprintTemplateEntityComponent.getRequired(id);
+    sprintTemplateEntityComponent.deleteById(id);
+  }
+}
@@ -0,0 +1,89 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.dto.TaskSearchPageDto;
+import com.sprintplanner.backend.dto.TaskSearchRequestDto;
+import com.sprintplanner.backend.entitycomponent.TaskIndexEntityComponent;
+import com.sprintplanner.backend.parser.TaskIndexParser;
+import com.sprintplanner.backend.validators.TaskSearchValidator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TaskSearchService {
+  private static final int DEFAULT_PAGE_SIZE = 50;
+
+  private final TaskIndexEntityComponent taskIndexEntityComponent;
+  private final TaskIndexParser taskIndexParser;
+  private final TaskSearchValidator taskSearchValidator;
+
+  public TaskSearchService(
+    TaskIndexEntityComponent taskIndexEntityComponent,
+    TaskIndexParser taskIndexParser,
+    TaskSearchValidator taskSearchValidator
+  ) {
+    this.taskIndexEntityComponent = taskIndexEntityComponent;
+    this.taskIndexParser = taskIndexParser;
+    this.taskSearchValidator = taskSearchValidator;
+  }
+
+  public TaskSearchPageDto search(TaskSearchRequestDto request) {
+    taskSearchValidator.validateOrThrow(request);
+    int page = request.getPage() == null ? 0 : request.getPage();
+    int size = request.getSize() == null ? DEFAULT_PAGE_SIZE : request.getSize();
+
+    Query query = buildQuery(request);
+    long total = taskIndexEntityComponent.count(request.getProjectId(), query);
+    query.with(PageRequest.of(page, size, Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("_id"))));
+
+    return TaskSearchPageDto.builder()
+      .items(taskIndexEntityComponent.find(request.getProjectId(), query).stream().map(taskIndexParser::toDto).toList())
+      .page(page)
+      .size(size)
+      .totalElements(total)
+      .build();
+  }
+
+  private Query buildQuery(TaskSearchRequestDto request) {
+    Query query = new Query();
+    if (hasText(request.getQ())) {
+      query.addCriteria(TextCriteria.forDefaultLanguage().matching(request.getQ()));
+    }
+    if (hasText(request.getProjectId())) {
+      query.addCriteria(Criteria.where("projectId").is(request.getProjectId()));
+    }
+    if (hasText(request.getAssignee())) {
+      query.addCriteria(Criteria.where("assigneeMemberName").is(request.getAssignee()));
+    }
+    if (hasText(request.getStatus())) {
+      query.addCriteria(Criteria.where("status").is(request.getStatus()));
+    }
+    if (hasText(request.getSprintStatus())) {
+      query.addCriteria(Criteria.where("sprintStatus").is(request.getSprintStatus()));
+    }
+    if (hasText(request.getDependsOn())) {
+      query.addCriteria(Criteria.where("dependencies").is(request.getDependsOn()));
+    }
+    if (request.getLate() != null) {
+      query.addCriteria(Criteria.where("late").is(request.getLate()));
+    }
+    if (hasText(request.getDueFrom()) || hasText(request.getDueTo())) {
+      Criteria due = Criteria.where("dueDate");
+      if (hasText(request.getDueFrom())) {
+        due = due.gte(request.getDueFrom());
+      }
+      if (hasText(request.getDueTo())) {
+        due = due.lte(request.getDueTo());
+      }
+      query.addCriteria(due);
+    }
+    return query;
+  }
+
+  private boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+}
@@ -0,0 +1,89 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.dto.TimelineDto;
+import com.sprintplanner.backend.dto.TimelineTaskDto;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.util.DateTimeUtil;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SegmentIndex;
+import com.sprintplanner.backend.util.VersionedCache;
+import com.sprintplanner.backend.validators.TimelineRequestValidator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TimelineService {
+  private static final int CACHE_SIZE = 256;
+
+  private final SprintEntityComponent sprintEntityComponent;
+  private final TimelineRequestValidator timelineRequestValidator;
+  private final VersionedCache<SegmentIndex> segmentIndexCache = new VersionedCache<>(CACHE_SIZE);
+
+  public TimelineService(SprintEntityComponent sprintEntityComponent, TimelineRequestValidator timelineRequestValidator) {
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.timelineRequestValidator = timelineRequestValidator;
+  }
+
+  public TimelineDto getTimeline(String sprintId, String from, String to, String member) {
+    timelineRequestValidator.validateOrThrow(from, to);
+    SegmentIndex index = getSegmentIndex(sprintId);
+    int fromDay = EpochDays.isPresent(EpochDays.parseIsoDate(from)) ? EpochDays.parseIsoDate(from) : index.firstDay();
+    int toDay = EpochDays.isPresent(EpochDays.parseIsoDate(to)) ? EpochDays.parseIsoDate(to) : index.lastDay();
+
+    List<TimelineTaskDto> tasks = new ArrayList<>();
+    List<int[]> bars = new ArrayList<>();
+    if (EpochDays.isPresent(fromDay) && EpochDays.isPresent(toDay)) {
+      Map<Integer, Integer> taskPositions = new HashMap<>();
+      int baseDay = fromDay;
+      String memberFilter = member == null || member.isBlank() ? null : member.trim();
+      index.forEach(fromDay, toDay, memberFilter, (taskId, memberName, day, start, end) -> {
+        Integer position = taskPositions.get(taskId);
+        if (position == null) {
+          position = tasks.size();
+          taskPositions.put(taskId, position);
+          tasks.add(toTaskDto(index.task(taskId)));
+        }
+        bars.add(new int[] { position, day - baseDay, start, end });
+      });
+    }
+    return TimelineDto.builder()
+      .sprintId(sprintId)
+      .from(EpochDays.format(fromDay))
+      .to(EpochDays.format(toDay))
+      .member(member)
+      .members(index.members())
+      .tasks(tasks)
+      .bars(bars)
+      .build();
+  }
+
+  public SegmentIndex getSegmentIndex(String sprintId) {
+    String version = DateTimeUtil.toIso(sprintEntityComponent.getRequiredUpdatedAt(sprintId));
+    return segmentIndexCache.getOrCompute(sprintId, version, () -> {
+      SprintDocument sprint = sprintEntityComponent.getRequiredTimeline(sprintId);
+      return SegmentIndex.build(sprint.getState() == null || sprint.getState().getTasks() == null
+        ? List.of()
+        : sprint.getState().getTasks().getItems());
+    });
+  }
+
+  public void evict(String sprintId) {
+    segmentIndexCache.evict(sprintId);
+  }
+
+  private TimelineTaskDto toTaskDto(TaskItem task) {
+    return TimelineTaskDto.builder()
+      .id(task.getId())
+      .name(task.getName())
+      .assigneeMemberName(task.getAssigneeMemberName())
+      .status(task.getStatus())
+      .computedStartDate(task.getComputedStartDate())
+      .computedEndDate(task.getComputedEndDate())
+      .build();
+  }
+}
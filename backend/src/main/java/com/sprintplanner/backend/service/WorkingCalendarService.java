@@ -0,0 +1,234 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.domain.CalendarState;
+import com.sprintplanner.backend.domain.CompactDaySchedules;
+import com.sprintplanner.backend.domain.DayPeriodsOverride;
+import com.sprintplanner.backend.domain.DaySchedule;
+import com.sprintplanner.backend.domain.GlobalConfig;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.WorkingPeriod;
+import com.sprintplanner.backend.util.EpochDaySet;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WorkingCalendarService {
+  private static final List<WorkingPeriod> FALLBACK_PERIODS = List.of(
+    WorkingPeriod.builder().start("08:00").end("12:00").build(),
+    WorkingPeriod.builder().start("13:00").end("17:00").build()
+  );
+
+  private final HolidayCalendarService holidayCalendarService;
+
+  public WorkingCalendarService(HolidayCalendarService holidayCalendarService) {
+    this.holidayCalendarService = holidayCalendarService;
+  }
+
+  public void normalize(String projectId, RootPersistedState state) {
+    if (state == null) {
+      return;
+    }
+    CalendarState calendar = ensureCalendar(state);
+    SprintDateIndex dates = SprintDateIndex.forState(state);
+    int start = dates.sprintStart();
+    int end = dates.sprintEnd();
+    if (!EpochDays.isPresent(start) || !EpochDays.isPresent(end) || start > end) {
+      calendar.setCompactSchedules(null);
+      calendar.setDaySchedules(normalizeLoose(calendar.getDaySchedules()));
+      return;
+    }
+
+    List<WorkingPeriod> defaults = defaultPeriods(state);
+    Map<String, DaySchedule> existing = new HashMap<>();
+    for (DaySchedule day : expandedOrEmpty(calendar)) {
+      if (day != null && day.getDate() != null) {
+        existing.put(day.getDate(), day);
+      }
+    }
+    Set<String> manual = new HashSet<>(safeList(calendar.getNonWorkingDaysManual()));
+    Set<String> removed = new HashSet<>(safeList(calendar.getNonWorkingDaysRemoved()));
+    EpochDaySet holidays = holidayCalendarService.resolveForProject(projectId);
+
+    int dayCount = end - start + 1;
+    List<DaySchedule> schedules = new ArrayList<>(dayCount);
+    BitSet nonWorking = new BitSet(dayCount);
+    List<DayPeriodsOverride> overrides = new ArrayList<>();
+    for (int offset = 0; offset < dayCount; offset++) {
+      int day = start + offset;
+      String iso = EpochDays.format(day);
+      DaySchedule previous = existing.get(iso);
+      List<WorkingPeriod> periods = previous == null ? List.of() : normalizePeriods(previous.getPeriods());
+      if (periods.isEmpty()) {
+        periods = defaults;
+      } else if (!periods.equals(defaults)) {
+        overrides.add(DayPeriodsOverride.builder().dayOffset(offset).periods(periods).build());
+      }
+      boolean holiday = holidays.contains(day);
+      boolean ownNonWorking = previous != null && !holiday
+        ? previous.isNonWorking()
+        : manual.contains(iso) || (EpochDays.isWeekend(day) && !removed.contains(iso));
+      nonWorking.set(offset, ownNonWorking);
+      schedules.add(DaySchedule.builder()
+        .date(iso)
+        .isNonWorking(ownNonWorking || (holiday && !removed.contains(iso)))
+        .periods(periods)
+        .build());
+    }
+
+    List<Long> bits = new ArrayList<>();
+    for (long word : nonWorking.toLongArray()) {
+      bits.add(word);
+    }
+    calendar.setDaySchedules(schedules);
+    calendar.setCompactSchedules(CompactDaySchedules.builder()
+      .startDate(EpochDays.format(start))
+      .dayCount(dayCount)
+      .nonWorkingBits(bits)
+      .defaultPeriods(defaults)
+      .overrides(overrides)
+      .build());
+  }
+
+  public void expand(String projectId, RootPersistedState state) {
+    CalendarState calendar = state == null ? null : state.getCalendar();
+    if (calendar == null) {
+      return;
+    }
+    List<DaySchedule> daySchedules = calendar.getDaySchedules();
+    if ((daySchedules == null || daySchedules.isEmpty()) && calendar.getCompactSchedules() != null) {
+      calendar.setDaySchedules(expand(calendar.getCompactSchedules()));
+    }
+    applyHolidays(calendar, holidayCalendarService.resolveForProject(projectId));
+  }
+
+  public <T> T saveCompacted(RootPersistedState state, Supplier<T> save) {
+    CalendarState calendar = state == null ? null : state.getCalendar();
+    if (calendar == null || calendar.getCompactSchedules() == null) {
+      return save.get();
+    }
+    List<DaySchedule> expanded = calendar.getDaySchedules();
+    calendar.setDaySchedules(null);
+    try {
+      return save.get();
+    } finally {
+      calendar.setDaySchedules(expanded);
+    }
+  }
+
+  private List<DaySchedule> expand(CompactDaySchedules compact) {
+    int start = EpochDays.parseIsoDate(compact.getStartDate());
+    if (!EpochDays.isPresent(start) || compact.getDayCount() <= 0) {
+      return new ArrayList<>();
+    }
+    List<Long> words = safeList(compact.getNonWorkingBits());
+    long[] raw = new long[words.size()];
+    for (int i = 0; i < raw.length; i++) {
+      raw[i] = words.get(i) == null ? 0 : words.get(i);
+    }
+    BitSet nonWorking = BitSet.valueOf(raw);
+    Map<Integer, List<WorkingPeriod>> overrides = new HashMap<>();
+    for (DayPeriodsOverride override : safeList(compact.getOverrides())) {
+      overrides.put(override.getDayOffset(), override.getPeriods());
+    }
+    List<WorkingPeriod> defaults = safeList(compact.getDefaultPeriods());
+    List<DaySchedule> schedules = new ArrayList<>(compact.getDayCount());
+    for (int offset = 0; offset < compact.getDayCount(); offset++) {
+      schedules.add(DaySchedule.builder()
+        .date(EpochDays.format(start + offset))
+        .isNonWorking(nonWorking.get(offset))
+        .periods(overrides.getOrDefault(offset, defaults))
+        .build());
+    }
+    return schedules;
+  }
+
+  private void applyHolidays(CalendarState calendar, EpochDaySet holidays) {
+    List<DaySchedule> daySchedules = safeList(calendar.getDaySchedules());
+    if (holidays.size() == 0 || daySchedules.isEmpty()) {
+      return;
+    }
+    int first = EpochDays.parseIsoDate(daySchedules.get(0).getDate());
+    int last = EpochDays.parseIsoDate(daySchedules.get(daySchedules.size() - 1).getDate());
+    if (EpochDays.isPresent(first) && EpochDays.isPresent(last) && holidays.countBetween(first, last) == 0) {
+      return;
+    }
+    Set<String> removed = new HashSet<>(safeList(calendar.getNonWorkingDaysRemoved()));
+    for (DaySchedule day : daySchedules) {
+      if (day == null || day.isNonWorking() || removed.contains(day.getDate())) {
+        continue;
+      }
+      if (holidays.contains(EpochDays.parseIsoDate(day.getDate()))) {
+        day.setNonWorking(true);
+      }
+    }
+  }
+
+  private List<DaySchedule> expandedOrEmpty(CalendarState calendar) {
+    List<DaySchedule> daySchedules = calendar.getDaySchedules();
+    if ((daySchedules == null || daySchedules.isEmpty()) && calendar.getCompactSchedules() != null) {
+      return expand(calendar.getCompactSchedules());
+    }
+    return safeList(daySchedules);
+  }
+
+  private List<DaySchedule> normalizeLoose(List<DaySchedule> daySchedules) {
+    List<DaySchedule> normalized = new ArrayList<>();
+    for (DaySchedule day : safeList(daySchedules)) {
+      if (day == null) {
+        continue;
+      }
+      normalized.add(DaySchedule.builder()
+        .date(day.getDate())
+        .isNonWorking(day.isNonWorking())
+        .periods(day.getPeriods() == null ? new ArrayList<>() : day.getPeriods())
+        .build());
+    }
+    return normalized;
+  }
+
+  private List<WorkingPeriod> defaultPeriods(RootPersistedState state) {
+    GlobalConfig config = state.getConfig() == null ? null : state.getConfig().getValue();
+    List<WorkingPeriod> configured = normalizePeriods(config == null ? null : config.getDefaultWorkingPeriods());
+    return configured.isEmpty() ? FALLBACK_PERIODS : configured;
+  }
+
+  private List<WorkingPeriod> normalizePeriods(List<WorkingPeriod> periods) {
+    List<WorkingPeriod> normalized = new ArrayList<>();
+    for (WorkingPeriod period : safeList(periods)) {
+      if (period == null || period.getStart() == null || period.getEnd() == null) {
+        continue;
+      }
+      String start = period.getStart().trim();
+      String end = period.getEnd().trim();
+      if (start.isEmpty() || end.isEmpty()) {
+        continue;
+      }
+      normalized.add(WorkingPeriod.builder().start(start).end(end).build());
+    }
+    return normalized;
+  }
+
+  private CalendarState ensureCalendar(RootPersistedState state) {
+    if (state.getCalendar() == null) {
+      state.setCalendar(CalendarState.builder()
+        .nonWorkingDaysManual(new ArrayList<>())
+        .nonWorkingDaysRemoved(new ArrayList<>())
+        .daySchedules(new ArrayList<>())
+        .build());
+    }
+    return state.getCalendar();
+  }
+
+  private <T> List<T> safeList(List<T> list) {
+    return list == null ? List.of() : list;
+  }
+}
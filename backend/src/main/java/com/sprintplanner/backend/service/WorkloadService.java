@@ -0,0 +1,98 @@
+package com.sprintplanner.backend.service;
+
+import com.sprintplanner.backend.component.WorkloadMatrixFactory;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.SprintDocument;
+import com.sprintplanner.backend.domain.WorkloadMatrix;
+import com.sprintplanner.backend.dto.WorkloadDto;
+import com.sprintplanner.backend.entitycomponent.SprintEntityComponent;
+import com.sprintplanner.backend.entitycomponent.WorkloadEntityComponent;
+import com.sprintplanner.backend.parser.WorkloadParser;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WorkloadService {
+  private final WorkloadEntityComponent workloadEntityComponent;
+  private final SprintEntityComponent sprintEntityComponent;
+  private final WorkloadMatrixFactory workloadMatrixFactory;
+  private final WorkloadParser workloadParser;
+  private final WorkingCalendarService workingCalendarService;
+  private final HolidayCalendarService holidayCalendarService;
+
+  public WorkloadService(
+    WorkloadEntityComponent workloadEntityComponent,
+    SprintEntityComponent sprintEntityComponent,
+    WorkloadMatrixFactory workloadMatrixFactory,
+    WorkloadParser workloadParser,
+    WorkingCalendarService workingCalendarService,
+    HolidayCalendarService holidayCalendarService
+  ) {
+    this.workloadEntityComponent = workloadEntityComponent;
+    this.sprintEntityComponent = sprintEntityComponent;
+    this.workloadMatrixFactory = workloadMatrixFactory;
+    this.workloadParser = workloadParser;
+    this.workingCalendarService = workingCalendarService;
+    this.holidayCalendarService = holidayCalendarService;
+  }
+
+  public void recordSave(SprintDocument sprint, RootPersistedState previousState, Instant previousUpdatedAt) {
+    String holidayVersion = holidayCalendarService.calendarVersion(sprint.getProjectId());
+    workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+    WorkloadMatrix previous = previousState == null
+      ? null
+      : workloadEntityComponent.find(sprint.getId())
+        .filter(matrix -> Objects.equals(matrix.getSprintUpdatedAt(), previousUpdatedAt))
+        .orElse(null);
+    WorkloadMatrix matrix = workloadMatrixFactory.update(
+      previous,
+      previousState,
+      sprint.getId(),
+      sprint.getProjectId(),
+      sprint.getState(),
+      sprint.getUpdatedAt()
+    );
+    matrix.setHolidayVersion(holidayVersion);
+    workloadEntityComponent.save(matrix);
+  }
+
+  public WorkloadDto getWorkload(String sprintId) {
+    SprintDocument meta = sprintEntityComponent.getRequiredMeta(sprintId);
+    String holidayVersion = holidayCalendarService.calendarVersion(meta.getProjectId());
+    WorkloadMatrix matrix = workloadEntityComponent.find(sprintId)
+      .filter(found -> isCurrent(found, meta.getUpdatedAt(), holidayVersion))
+      .orElse(null);
+    if (matrix == null) {
+      SprintDocument sprint = sprintEntityComponent.getRequired(sprintId);
+      workingCalendarService.expand(sprint.getProjectId(), sprint.getState());
+      matrix = workloadMatrixFactory.build(
+        sprint.getId(),
+        sprint.getProjectId(),
+        sprint.getState(),
+        sprint.getUpdatedAt()
+      );
+      matrix.setHolidayVersion(holidayVersion);
+      matrix = workloadEntityComponent.save(matrix);
+    }
+    return workloadParser.toDto(matrix);
+  }
+
+  public boolean isCurrent(WorkloadMatrix matrix, Instant sprintUpdatedAt, String holidayVersion) {
+    return Objects.equals(matrix.getSprintUpdatedAt(), sprintUpdatedAt)
+      && Objects.equals(matrix.getHolidayVersion(), holidayVersion);
+  }
+
+  public List<WorkloadMatrix> findByProjectId(String projectId) {
+    return workloadEntityComponent.findByProjectId(projectId);
+  }
+
+  public void deleteBySprintId(String sprintId) {
+    workloadEntityComponent.deleteBySprintId(sprintId);
+  }
+
+  public void deleteByProjectId(String projectId) {
+    workloadEntityComponent.deleteByProjectId(projectId);
+  }
+}
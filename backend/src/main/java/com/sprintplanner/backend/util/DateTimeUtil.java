@@ -1,12 +1,53 @@
 package com.sprintplanner.backend.util;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 public final class DateTimeUtil {
+  private static final DateTimeFormatter COMPUTED_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
   private DateTimeUtil() {
   }
 
   public static String nowIso() {
     return OffsetDateTime.now().toString();
   }
+
+  public static Instant now() {
+    return Instant.now().truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  public static String toIso(Instant value) {
+    return value == null ? null : value.toString();
+  }
+
+  public static Instant parseInstant(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(value).toInstant();
+    } catch (DateTimeParseException ex) {
+      try {
+        return Instant.parse(value);
+      } catch (DateTimeParseException ignored) {
+        return null;
+      }
+    }
+  }
+
+  public static LocalDate parseComputedDate(String value) {
+    if (value == null || value.length() < 10) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(value.substring(0, 10), COMPUTED_DATE);
+    } catch (DateTimeParseException ex) {
+      return null;
+    }
+  }
 }
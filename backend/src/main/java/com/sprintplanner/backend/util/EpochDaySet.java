@@ -0,0 +1,93 @@
+package com.sprintplanner.backend.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class EpochDaySet {
+  private static final EpochDaySet EMPTY = new EpochDaySet(new int[0]);
+
+  private final int[] days;
+
+  private EpochDaySet(int[] days) {
+    this.days = days;
+  }
+
+  public static EpochDaySet empty() {
+    return EMPTY;
+  }
+
+  public static EpochDaySet of(Collection<LocalDate> dates) {
+    int[] values = new int[dates.size()];
+    int size = 0;
+    for (LocalDate date : dates) {
+      if (date != null) {
+        values[size++] = (int) date.toEpochDay();
+      }
+    }
+    return fromUnsorted(Arrays.copyOf(values, size));
+  }
+
+  public boolean contains(LocalDate date) {
+    return date != null && contains((int) date.toEpochDay());
+  }
+
+  public boolean contains(int epochDay) {
+    return Arrays.binarySearch(days, epochDay) >= 0;
+  }
+
+  public int countBetween(int fromEpochDay, int toEpochDay) {
+    if (fromEpochDay > toEpochDay) {
+      return 0;
+    }
+    return insertionPoint(toEpochDay + 1) - insertionPoint(fromEpochDay);
+  }
+
+  public EpochDaySet union(EpochDaySet other) {
+    if (other.days.length == 0) {
+      return this;
+    }
+    if (days.length == 0) {
+      return other;
+    }
+    int[] merged = new int[days.length + other.days.length];
+    int i = 0;
+    int j = 0;
+    int size = 0;
+    while (i < days.length || j < other.days.length) {
+      int next;
+      if (j >= other.days.length || (i < days.length && days[i] <= other.days[j])) {
+        next = days[i++];
+      } else {
+        next = other.days[j++];
+      }
+      if (size == 0 || merged[size - 1] != next) {
+        merged[size++] = next;
+      }
+    }
+    return new EpochDaySet(Arrays.copyOf(merged, size));
+  }
+
+  public int size() {
+    return days.length;
+  }
+
+  private int insertionPoint(int epochDay) {
+    int index = Arrays.binarySearch(days, epochDay);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private static EpochDaySet fromUnsorted(int[] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    Arrays.sort(values);
+    int size = 1;
+    for (int i = 1; i < values.length; i++) {
+      if (values[i] != values[size - 1]) {
+        values[size++] = values[i];
+      }
+    }
+    return new EpochDaySet(Arrays.copyOf(values, size));
+  }
+}
@@ -0,0 +1,138 @@
+package com.sprintplanner.backend.util;
+
+import java.time.LocalDate;
+
+public final class EpochDays {
+  public static final int NONE = Integer.MIN_VALUE;
+  public static final int INVALID = Integer.MIN_VALUE + 1;
+
+  private EpochDays() {
+  }
+
+  public static boolean isPresent(int epochDay) {
+    return epochDay != NONE && epochDay != INVALID;
+  }
+
+  public static int parseIsoDate(String value) {
+    if (value == null || value.isBlank()) {
+      return NONE;
+    }
+    if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+      return INVALID;
+    }
+    int year = digits(value, 0, 4);
+    int month = digits(value, 5, 7);
+    int day = digits(value, 8, 10);
+    return toEpochDay(year, month, day);
+  }
+
+  public static int parseComputedDate(String value) {
+    if (value == null || value.isBlank()) {
+      return NONE;
+    }
+    if (value.length() < 10 || value.charAt(2) != '/' || value.charAt(5) != '/') {
+      return INVALID;
+    }
+    int day = digits(value, 0, 2);
+    int month = digits(value, 3, 5);
+    int year = digits(value, 6, 10);
+    return toEpochDay(year, month, day);
+  }
+
+  public static int parseDatePrefix(String value) {
+    if (value == null || value.isBlank()) {
+      return NONE;
+    }
+    if (value.length() >= 10 && value.charAt(4) == '-') {
+      return parseIsoDate(value.substring(0, 10));
+    }
+    return parseComputedDate(value);
+  }
+
+  public static int parseTimeMinutes(String value) {
+    if (value == null) {
+      return INVALID;
+    }
+    String trimmed = value.trim();
+    if (trimmed.length() != 5 || trimmed.charAt(2) != ':') {
+      return INVALID;
+    }
+    int hours = digits(trimmed, 0, 2);
+    int minutes = digits(trimmed, 3, 5);
+    if (hours < 0 || minutes < 0 || minutes > 59) {
+      return INVALID;
+    }
+    return hours * 60 + minutes;
+  }
+
+  public static String format(int epochDay) {
+    return isPresent(epochDay) ? LocalDate.ofEpochDay(epochDay).toString() : null;
+  }
+
+  public static LocalDate toLocalDate(int epochDay) {
+    return isPresent(epochDay) ? LocalDate.ofEpochDay(epochDay) : null;
+  }
+
+  public static boolean isWeekend(int epochDay) {
+    int dayOfWeek = Math.floorMod(epochDay + 3, 7);
+    return dayOfWeek >= 5;
+  }
+
+  public static int nextWeekday(int fromDay) {
+    if (!isPresent(fromDay)) {
+      return fromDay;
+    }
+    int day = fromDay;
+    while (isWeekend(day)) {
+      day++;
+    }
+    return day;
+  }
+
+  public static int weekdaysBetween(int fromDay, int toDay) {
+    if (!isPresent(fromDay) || !isPresent(toDay) || toDay < fromDay) {
+      return 0;
+    }
+    int days = toDay - fromDay + 1;
+    int count = days / 7 * 5;
+    for (int day = fromDay + days / 7 * 7; day <= toDay; day++) {
+      if (!isWeekend(day)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int toEpochDay(int year, int month, int day) {
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+      return INVALID;
+    }
+    int y = month <= 2 ? year - 1 : year;
+    int era = Math.floorDiv(y, 400);
+    int yearOfEra = y - era * 400;
+    int shiftedMonth = month > 2 ? month - 3 : month + 9;
+    int dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    return switch (month) {
+      case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4, 6, 9, 11 -> 30;
+      default -> 31;
+    };
+  }
+
+  private static int digits(String value, int from, int to) {
+    int result = 0;
+    for (int i = from; i < to; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+}
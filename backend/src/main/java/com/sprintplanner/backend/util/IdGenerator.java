@@ -1,16 +1,72 @@
 package com.sprintplanner.backend.util;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class IdGenerator {
+  public static final String PROJECT_PREFIX = "project-";
+  public static final String SPRINT_PREFIX = "sprint-";
+  public static final String TEMPLATE_PREFIX = "template-";
+  public static final String JOB_PREFIX = "job-";
+
+  private static final int SEQUENCE_BITS = 12;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final AtomicLong LAST = new AtomicLong();
+
   private IdGenerator() {
   }
 
   public static String newProjectId() {
-    return "project-" + UUID.randomUUID();
+    return PROJECT_PREFIX + timeOrderedUuid();
   }
 
   public static String newSprintId() {
-    return "sprint-" + UUID.randomUUID();
+    return SPRINT_PREFIX + timeOrderedUuid();
+  }
+
+  public static String newTemplateId() {
+    return TEMPLATE_PREFIX + timeOrderedUuid();
+  }
+
+  public static String newJobId() {
+    return JOB_PREFIX + timeOrderedUuid();
+  }
+
+  public static Optional<Instant> createdAt(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    int separator = id.indexOf('-');
+    if (separator < 0 || id.length() - separator - 1 != 36) {
+      return Optional.empty();
+    }
+    try {
+      UUID uuid = UUID.fromString(id.substring(separator + 1));
+      if (uuid.version() != 7) {
+        return Optional.empty();
+      }
+      return Optional.of(Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16));
+    } catch (IllegalArgumentException ex) {
+      return Optional.empty();
+    }
+  }
+
+  public static String lowerBound(String prefix, Instant instant) {
+    long millis = Math.max(0, instant.toEpochMilli());
+    return prefix + new UUID((millis << 16) | VERSION_7, VARIANT);
+  }
+
+  private static UUID timeOrderedUuid() {
+    long now = System.currentTimeMillis() << SEQUENCE_BITS;
+    long next = LAST.updateAndGet(previous -> now > previous ? now : previous + 1);
+    long millis = next >>> SEQUENCE_BITS;
+    long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+    long random = ThreadLocalRandom.current().nextLong() & RANDOM_MASK;
+    return new UUID((millis << 16) | VERSION_7 | sequence, VARIANT | random);
   }
 }
@@ -0,0 +1,116 @@
+package com.sprintplanner.backend.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OffHeapPagePool {
+  private final int pageBytes;
+  private final int pagesPerSlab;
+  private final int maxPages;
+  private final List<ByteBuffer> slabs = new ArrayList<>();
+  private int[] freePages = new int[0];
+  private int freeCount;
+  private int carvedPages;
+
+  public OffHeapPagePool(int pageBytes, int slabBytes, long maxBytes) {
+    if (pageBytes <= 0 || slabBytes < pageBytes || maxBytes < pageBytes) {
+      throw new IllegalArgumentException("Invalid off-heap pool sizes");
+    }
+    this.pageBytes = pageBytes;
+    this.pagesPerSlab = slabBytes / pageBytes;
+    this.maxPages = (int) Math.min(Integer.MAX_VALUE, maxBytes / pageBytes);
+  }
+
+  public int pageBytes() {
+    return pageBytes;
+  }
+
+  public int maxPages() {
+    return maxPages;
+  }
+
+  public int usedPages() {
+    return carvedPages - freeCount;
+  }
+
+  public long reservedBytes() {
+    return (long) carvedPages * pageBytes;
+  }
+
+  public int pagesFor(int bytes) {
+    return Math.max(1, (bytes + pageBytes - 1) / pageBytes);
+  }
+
+  public int[] allocate(int bytes) {
+    int needed = pagesFor(bytes);
+    if (needed > freeCount + (maxPages - carvedPages)) {
+      return null;
+    }
+    int[] pages = new int[needed];
+    for (int i = 0; i < needed; i++) {
+      if (freeCount == 0) {
+        carve();
+      }
+      pages[i] = freePages[--freeCount];
+    }
+    return pages;
+  }
+
+  public void free(int[] pages) {
+    ensureFreeCapacity(freeCount + pages.length);
+    for (int page : pages) {
+      freePages[freeCount++] = page;
+    }
+  }
+
+  public void write(int[] pages, byte[] data) {
+    int offset = 0;
+    for (int i = 0; i < pages.length && offset < data.length; i++) {
+      int length = Math.min(pageBytes, data.length - offset);
+      slab(pages[i]).put(position(pages[i]), data, offset, length);
+      offset += length;
+    }
+  }
+
+  public byte[] read(int[] pages, int offset, int length) {
+    byte[] data = new byte[length];
+    int copied = 0;
+    while (copied < length) {
+      int absolute = offset + copied;
+      int page = pages[absolute / pageBytes];
+      int inPage = absolute % pageBytes;
+      int chunk = Math.min(pageBytes - inPage, length - copied);
+      slab(page).get(position(page) + inPage, data, copied, chunk);
+      copied += chunk;
+    }
+    return data;
+  }
+
+  private void carve() {
+    int slabIndex = slabs.size();
+    int pages = Math.min(pagesPerSlab, maxPages - carvedPages);
+    slabs.add(ByteBuffer.allocateDirect(pages * pageBytes));
+    ensureFreeCapacity(freeCount + pages);
+    for (int i = pages - 1; i >= 0; i--) {
+      freePages[freeCount++] = slabIndex * pagesPerSlab + i;
+    }
+    carvedPages += pages;
+  }
+
+  private void ensureFreeCapacity(int capacity) {
+    if (freePages.length < capacity) {
+      int[] grown = new int[Math.max(capacity, freePages.length * 2)];
+      System.arraycopy(freePages, 0, grown, 0, freeCount);
+      freePages = grown;
+    }
+  }
+
+  private ByteBuffer slab(int page) {
+    return slabs.get(page / pagesPerSlab);
+  }
+
+  private int position(int page) {
+    return (page % pagesPerSlab) * pageBytes;
+  }
+}
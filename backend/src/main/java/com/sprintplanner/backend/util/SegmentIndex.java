@@ -0,0 +1,248 @@
+package com.sprintplanner.backend.util;
+
+import com.sprintplanner.backend.domain.TaskItem;
+import com.sprintplanner.backend.domain.TaskWorkSegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public final class SegmentIndex {
+  public static final String UNASSIGNED = "";
+
+  private static final int MIN_DAY = -(1 << 19);
+  private static final int MAX_DAY = (1 << 19) - 1;
+  private static final int MAX_MEMBER_ID = (1 << 10) - 1;
+  private static final int MAX_START = (1 << 11) - 1;
+  private static final int MAX_POSITION = (1 << 21) - 1;
+
+  private final List<TaskItem> tasks;
+  private final String[] members;
+  private final int[] days;
+  private final int[] memberIds;
+  private final int[] starts;
+  private final int[] ends;
+  private final int[] taskIds;
+  private final int[][] positionsByMember;
+
+  private SegmentIndex(
+    List<TaskItem> tasks,
+    String[] members,
+    int[] days,
+    int[] memberIds,
+    int[] starts,
+    int[] ends,
+    int[] taskIds
+  ) {
+    this.tasks = tasks;
+    this.members = members;
+    this.days = days;
+    this.memberIds = memberIds;
+    this.starts = starts;
+    this.ends = ends;
+    this.taskIds = taskIds;
+    int[] counts = new int[members.length];
+    for (int memberId : memberIds) {
+      counts[memberId]++;
+    }
+    this.positionsByMember = new int[members.length][];
+    for (int i = 0; i < members.length; i++) {
+      positionsByMember[i] = new int[counts[i]];
+    }
+    int[] filled = new int[members.length];
+    for (int position = 0; position < memberIds.length; position++) {
+      int memberId = memberIds[position];
+      positionsByMember[memberId][filled[memberId]++] = position;
+    }
+  }
+
+  public static SegmentIndex build(List<TaskItem> taskItems) {
+    List<TaskItem> tasks = new ArrayList<>();
+    TreeSet<String> memberNames = new TreeSet<>();
+    int segmentCount = 0;
+    for (TaskItem task : taskItems == null ? List.<TaskItem>of() : taskItems) {
+      if (task == null) {
+        continue;
+      }
+      tasks.add(task);
+      memberNames.add(memberOf(task));
+      segmentCount += task.getComputedTimeline() == null ? 0 : task.getComputedTimeline().size();
+    }
+    String[] members = memberNames.toArray(new String[0]);
+    Map<String, Integer> memberIds = new HashMap<>();
+    for (int i = 0; i < members.length; i++) {
+      memberIds.put(members[i], i);
+    }
+
+    int[] rawDays = new int[segmentCount];
+    int[] rawMembers = new int[segmentCount];
+    int[] rawStarts = new int[segmentCount];
+    int[] rawEnds = new int[segmentCount];
+    int[] rawTasks = new int[segmentCount];
+    int size = 0;
+    boolean packable = members.length <= MAX_MEMBER_ID + 1 && segmentCount <= MAX_POSITION + 1;
+    for (int taskId = 0; taskId < tasks.size(); taskId++) {
+      TaskItem task = tasks.get(taskId);
+      int memberId = memberIds.get(memberOf(task));
+      for (TaskWorkSegment segment : task.getComputedTimeline() == null ? List.<TaskWorkSegment>of() : task.getComputedTimeline()) {
+        int day = segment == null ? EpochDays.INVALID : EpochDays.parseIsoDate(segment.getDate());
+        if (!EpochDays.isPresent(day)) {
+          continue;
+        }
+        int start = Math.max(0, EpochDays.parseTimeMinutes(segment.getStartTime()));
+        int end = EpochDays.parseTimeMinutes(segment.getEndTime());
+        if (end < start) {
+          end = start + Math.max(0, segment.getMinutes());
+        }
+        rawDays[size] = day;
+        rawMembers[size] = memberId;
+        rawStarts[size] = start;
+        rawEnds[size] = end;
+        rawTasks[size] = taskId;
+        packable &= day >= MIN_DAY && day <= MAX_DAY && start <= MAX_START;
+        size++;
+      }
+    }
+
+    int[] order = packable
+      ? packedOrder(rawDays, rawMembers, rawStarts, size)
+      : comparedOrder(rawDays, rawMembers, rawStarts, size);
+    int[] days = new int[size];
+    int[] sortedMembers = new int[size];
+    int[] starts = new int[size];
+    int[] ends = new int[size];
+    int[] taskIds = new int[size];
+    for (int i = 0; i < size; i++) {
+      int source = order[i];
+      days[i] = rawDays[source];
+      sortedMembers[i] = rawMembers[source];
+      starts[i] = rawStarts[source];
+      ends[i] = rawEnds[source];
+      taskIds[i] = rawTasks[source];
+    }
+    return new SegmentIndex(tasks, members, days, sortedMembers, starts, ends, taskIds);
+  }
+
+  public int size() {
+    return days.length;
+  }
+
+  public int firstDay() {
+    return days.length == 0 ? EpochDays.NONE : days[0];
+  }
+
+  public int lastDay() {
+    return days.length == 0 ? EpochDays.NONE : days[days.length - 1];
+  }
+
+  public List<String> members() {
+    return List.of(members);
+  }
+
+  public TaskItem task(int taskId) {
+    return tasks.get(taskId);
+  }
+
+  public int taskCount() {
+    return tasks.size();
+  }
+
+  public void forEach(int fromDay, int toDay, String member, SegmentConsumer consumer) {
+    if (member == null) {
+      int end = lowerBound(toDay + 1);
+      for (int position = lowerBound(fromDay); position < end; position++) {
+        accept(position, consumer);
+      }
+      return;
+    }
+    int memberId = Arrays.binarySearch(members, member);
+    if (memberId < 0) {
+      return;
+    }
+    int[] positions = positionsByMember[memberId];
+    int end = lowerBound(positions, toDay + 1);
+    for (int i = lowerBound(positions, fromDay); i < end; i++) {
+      accept(positions[i], consumer);
+    }
+  }
+
+  private void accept(int position, SegmentConsumer consumer) {
+    consumer.accept(taskIds[position], members[memberIds[position]], days[position], starts[position], ends[position]);
+  }
+
+  private int lowerBound(int day) {
+    int low = 0;
+    int high = days.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (days[mid] < day) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int lowerBound(int[] positions, int day) {
+    int low = 0;
+    int high = positions.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (days[positions[mid]] < day) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static int[] packedOrder(int[] days, int[] memberIds, int[] starts, int size) {
+    long[] keys = new long[size];
+    for (int position = 0; position < size; position++) {
+      keys[position] = sortKey(days[position], memberIds[position], starts[position], position);
+    }
+    Arrays.sort(keys);
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = (int) (keys[i] & MAX_POSITION);
+    }
+    return order;
+  }
+
+  private static int[] comparedOrder(int[] days, int[] memberIds, int[] starts, int size) {
+    Integer[] positions = new Integer[size];
+    for (int position = 0; position < size; position++) {
+      positions[position] = position;
+    }
+    Arrays.sort(positions, Comparator
+      .<Integer>comparingInt(position -> days[position])
+      .thenComparingInt(position -> memberIds[position])
+      .thenComparingInt(position -> starts[position])
+      .thenComparingInt(Integer::intValue));
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = positions[i];
+    }
+    return order;
+  }
+
+  private static long sortKey(int day, int memberId, int start, int position) {
+    long dayPart = day - MIN_DAY;
+    return (dayPart << 43) | ((long) memberId << 33) | ((long) start << 22) | position;
+  }
+
+  private static String memberOf(TaskItem task) {
+    String assignee = task.getAssigneeMemberName();
+    return assignee == null || assignee.isBlank() ? UNASSIGNED : assignee;
+  }
+
+  @FunctionalInterface
+  public interface SegmentConsumer {
+    void accept(int taskId, String member, int day, int startMinute, int endMinute);
+  }
+}
@@ -0,0 +1,125 @@
+package com.sprintplanner.backend.util;
+
+import com.sprintplanner.backend.domain.EventItem;
+import com.sprintplanner.backend.domain.RootPersistedState;
+import com.sprintplanner.backend.domain.TaskItem;
+import java.util.List;
+import java.util.Objects;
+
+public final class SprintDateIndex {
+  private final int sprintStart;
+  private final int sprintEnd;
+  private final int[] eventDays;
+  private final int[] taskDueDays;
+  private final int[] taskComputedEndDays;
+  private final int[] taskCompletedDays;
+  private final long fingerprint;
+
+  private SprintDateIndex(
+    int sprintStart,
+    int sprintEnd,
+    int[] eventDays,
+    int[] taskDueDays,
+    int[] taskComputedEndDays,
+    int[] taskCompletedDays,
+    long fingerprint
+  ) {
+    this.sprintStart = sprintStart;
+    this.sprintEnd = sprintEnd;
+    this.eventDays = eventDays;
+    this.taskDueDays = taskDueDays;
+    this.taskComputedEndDays = taskComputedEndDays;
+    this.taskCompletedDays = taskCompletedDays;
+    this.fingerprint = fingerprint;
+  }
+
+  public static SprintDateIndex forState(RootPersistedState state) {
+    SprintDateIndex index = state.getDateIndex();
+    if (index == null || !index.matches(state)) {
+      index = build(state);
+      state.setDateIndex(index);
+    }
+    return index;
+  }
+
+  public static SprintDateIndex build(RootPersistedState state) {
+    int start = EpochDays.parseIsoDate(state.getSprint() == null ? null : state.getSprint().getStartDate());
+    int end = EpochDays.parseIsoDate(state.getSprint() == null ? null : state.getSprint().getEndDate());
+    List<EventItem> events = events(state);
+    int[] eventDays = new int[events.size()];
+    for (int i = 0; i < eventDays.length; i++) {
+      EventItem event = events.get(i);
+      eventDays[i] = EpochDays.parseIsoDate(event == null ? null : event.getDate());
+    }
+    List<TaskItem> tasks = tasks(state);
+    int[] dueDays = new int[tasks.size()];
+    int[] computedEndDays = new int[tasks.size()];
+    int[] completedDays = new int[tasks.size()];
+    for (int i = 0; i < dueDays.length; i++) {
+      TaskItem task = tasks.get(i);
+      dueDays[i] = EpochDays.parseIsoDate(task == null ? null : task.getDueDate());
+      computedEndDays[i] = EpochDays.parseComputedDate(task == null ? null : task.getComputedEndDate());
+      completedDays[i] = EpochDays.parseDatePrefix(task == null ? null : task.getCompletedAt());
+    }
+    return new SprintDateIndex(start, end, eventDays, dueDays, computedEndDays, completedDays, fingerprint(state));
+  }
+
+  public int sprintStart() {
+    return sprintStart;
+  }
+
+  public int sprintEnd() {
+    return sprintEnd;
+  }
+
+  public int eventDay(int position) {
+    return eventDays[position];
+  }
+
+  public int taskDueDay(int position) {
+    return taskDueDays[position];
+  }
+
+  public int taskComputedEndDay(int position) {
+    return taskComputedEndDays[position];
+  }
+
+  public int taskCompletedDay(int position) {
+    return taskCompletedDays[position];
+  }
+
+  private boolean matches(RootPersistedState state) {
+    return events(state).size() == eventDays.length
+      && tasks(state).size() == taskDueDays.length
+      && fingerprint(state) == fingerprint;
+  }
+
+  private static long fingerprint(RootPersistedState state) {
+    long hash = 1;
+    hash = 31 * hash + Objects.hashCode(state.getSprint() == null ? null : state.getSprint().getStartDate());
+    hash = 31 * hash + Objects.hashCode(state.getSprint() == null ? null : state.getSprint().getEndDate());
+    for (EventItem event : events(state)) {
+      hash = 31 * hash + Objects.hashCode(event == null ? null : event.getDate());
+    }
+    for (TaskItem task : tasks(state)) {
+      if (task == null) {
+        hash = 31 * hash;
+        continue;
+      }
+      hash = 31 * hash + Objects.hashCode(task.getDueDate());
+      hash = 31 * hash + Objects.hashCode(task.getComputedEndDate());
+      hash = 31 * hash + Objects.hashCode(task.getCompletedAt());
+    }
+    return hash;
+  }
+
+  private static List<EventItem> events(RootPersistedState state) {
+    List<EventItem> items = state.getEvents() == null ? null : state.getEvents().getItems();
+    return items == null ? List.of() : items;
+  }
+
+  private static List<TaskItem> tasks(RootPersistedState state) {
+    List<TaskItem> items = state.getTasks() == null ? null : state.getTasks().getItems();
+    return items == null ? List.of() : items;
+  }
+}
@@ -0,0 +1,57 @@
+package com.sprintplanner.backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class StringPool {
+  private static final int STRIPES = 64;
+
+  private final int maxLength;
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  public StringPool(int maxEntries, int maxLength) {
+    this.maxLength = maxLength;
+    int perStripe = Math.max(1, maxEntries / STRIPES);
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(perStripe);
+    }
+  }
+
+  public String intern(String value) {
+    if (value == null || value.length() > maxLength) {
+      return value;
+    }
+    int hash = value.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].intern(value);
+  }
+
+  public int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private static final class Stripe {
+    private final Map<String, String> values;
+
+    private Stripe(int maxEntries) {
+      this.values = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+          return size() > maxEntries;
+        }
+      };
+    }
+
+    private synchronized String intern(String value) {
+      String pooled = values.putIfAbsent(value, value);
+      return pooled == null ? value : pooled;
+    }
+
+    private synchronized int size() {
+      return values.size();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.sprintplanner.backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class VersionedCache<T> {
+  private final Map<String, Entry<T>> entries;
+
+  public VersionedCache(int maxEntries) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  public synchronized T get(String key, String version) {
+    Entry<T> entry = entries.get(key);
+    if (entry == null || !Objects.equals(entry.version(), version)) {
+      return null;
+    }
+    return entry.value();
+  }
+
+  public synchronized void put(String key, String version, T value) {
+    entries.put(key, new Entry<>(version, value));
+  }
+
+  public T getOrCompute(String key, String version, Supplier<T> loader) {
+    T cached = get(key, version);
+    if (cached != null) {
+      return cached;
+    }
+    T value = loader.get();
+    if (value != null) {
+      put(key, version, value);
+    }
+    return value;
+  }
+
+  public synchronized void evict(String key) {
+    entries.remove(key);
+  }
+
+  private record Entry<T>(String version, T value) {
+  }
+}
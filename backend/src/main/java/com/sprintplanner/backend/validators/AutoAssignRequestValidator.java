@@ -0,0 +1,41 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.config.AutoAssignProperties;
+import com.sprintplanner.backend.dto.AutoAssignRequestDto;
+import com.sprintplanner.backend.scheduling.AssignmentObjective;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class AutoAssignRequestValidator {
+  private static final long MIN_TIME_BUDGET_MILLIS = 10;
+
+  private final AutoAssignProperties autoAssignProperties;
+
+  public AutoAssignRequestValidator(AutoAssignProperties autoAssignProperties) {
+    this.autoAssignProperties = autoAssignProperties;
+  }
+
+  public String validate(AutoAssignRequestDto request) {
+    if (request == null) {
+      return null;
+    }
+    if (request.getObjective() != null && AssignmentObjective.from(request.getObjective()) == null) {
+      return "Objetivo inválido. Use makespan ou lateness.";
+    }
+    Long budget = request.getTimeBudgetMillis();
+    if (budget != null && (budget < MIN_TIME_BUDGET_MILLIS || budget > autoAssignProperties.getMaxTimeBudgetMillis())) {
+      return "timeBudgetMillis deve estar entre " + MIN_TIME_BUDGET_MILLIS + " e "
+        + autoAssignProperties.getMaxTimeBudgetMillis() + ".";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(AutoAssignRequestDto request) {
+    String validation = validate(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.config.ForecastProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class ForecastRequestValidator {
+  private static final int MIN_RUNS = 100;
+
+  private final ForecastProperties forecastProperties;
+
+  public ForecastRequestValidator(ForecastProperties forecastProperties) {
+    this.forecastProperties = forecastProperties;
+  }
+
+  public String validate(Integer runs) {
+    if (runs != null && (runs < MIN_RUNS || runs > forecastProperties.getMaxRuns())) {
+      return "runs deve estar entre " + MIN_RUNS + " e " + forecastProperties.getMaxRuns() + ".";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(Integer runs) {
+    String validation = validate(runs);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
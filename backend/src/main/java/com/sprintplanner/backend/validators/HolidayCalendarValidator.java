@@ -0,0 +1,47 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.domain.Holiday;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class HolidayCalendarValidator {
+  private static final int MAX_DAYS = 5000;
+
+  public String validate(List<Holiday> days) {
+    if (days == null) {
+      return "Lista de dias é obrigatória.";
+    }
+    if (days.size() > MAX_DAYS) {
+      return "Calendário não pode ter mais de " + MAX_DAYS + " dias.";
+    }
+    Set<String> seen = new HashSet<>();
+    for (Holiday day : days) {
+      if (day == null || day.getDate() == null || day.getDate().isBlank()) {
+        return "Data do feriado é obrigatória.";
+      }
+      try {
+        LocalDate.parse(day.getDate());
+      } catch (DateTimeParseException ex) {
+        return "Datas do calendário devem estar no formato ISO (YYYY-MM-DD).";
+      }
+      if (!seen.add(day.getDate())) {
+        return "Data repetida no calendário: " + day.getDate() + ".";
+      }
+    }
+    return null;
+  }
+
+  public void validateOrThrow(List<Holiday> days) {
+    String validation = validate(days);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.dto.JobRequestDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class JobRequestValidator {
+  public static final int MIN_PRIORITY = 0;
+  public static final int MAX_PRIORITY = 9;
+
+  public String validate(JobRequestDto request) {
+    if (request == null || request.getType() == null || request.getType().isBlank()) {
+      return "Tipo do job é obrigatório.";
+    }
+    Integer priority = request.getPriority();
+    if (priority != null && (priority < MIN_PRIORITY || priority > MAX_PRIORITY)) {
+      return "Prioridade do job deve estar entre " + MIN_PRIORITY + " e " + MAX_PRIORITY + ".";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(JobRequestDto request) {
+    String validation = validate(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.report.ReportFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class ReportRequestValidator {
+  public String validateFormat(String format) {
+    if (ReportFormat.from(format) == null) {
+      return "Formato de relatório inválido. Use csv, xlsx ou pdf.";
+    }
+    return null;
+  }
+
+  public void validateFormatOrThrow(String format) {
+    String validation = validateFormat(format);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
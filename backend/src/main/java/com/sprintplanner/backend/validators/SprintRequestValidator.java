@@ -1,11 +1,25 @@
 package com.sprintplanner.backend.validators;
 
+import com.sprintplanner.backend.domain.StateSection;
+import com.sprintplanner.backend.dto.SprintBatchGetRequestDto;
+import com.sprintplanner.backend.dto.SprintCloneRequestDto;
+import com.sprintplanner.backend.util.EpochDays;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
 @Component
 public class SprintRequestValidator {
+  public static final int MAX_BATCH_IDS = 100;
+  private static final Set<String> VALID_LIST_SORT = Set.of("updatedAt", "startDate", "computedFinishDate", "overdueTaskCount");
+  private static final String VALID_SECTIONS = Arrays.stream(StateSection.values())
+    .map(StateSection::key)
+    .collect(Collectors.joining(", "));
+
   public String validateProjectId(String projectId) {
     if (projectId == null || projectId.isBlank()) {
       return "projectId é obrigatório para criar uma sprint.";
@@ -19,4 +33,131 @@ public class SprintRequestValidator {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
     }
   }
+
+  public String validateListSort(String sort) {
+    if (sort != null && !VALID_LIST_SORT.contains(sort)) {
+      return "Ordenação da listagem de sprints é inválida.";
+    }
+    return null;
+  }
+
+  public String validateCreatedRange(String createdFrom, String createdTo) {
+    int from = parseOptionalDate(createdFrom);
+    int to = parseOptionalDate(createdTo);
+    if (from == EpochDays.INVALID || to == EpochDays.INVALID) {
+      return "createdFrom e createdTo devem estar no formato YYYY-MM-DD.";
+    }
+    if (EpochDays.isPresent(from) && EpochDays.isPresent(to) && from > to) {
+      return "createdFrom deve ser anterior ou igual a createdTo.";
+    }
+    return null;
+  }
+
+  public void validateListOrThrow(String sort, String createdFrom, String createdTo) {
+    String validation = validateListSort(sort);
+    if (validation == null) {
+      validation = validateCreatedRange(createdFrom, createdTo);
+    }
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+
+  public String validateFields(String fields) {
+    if (fields == null) {
+      return null;
+    }
+    for (String field : fields.split(",")) {
+      if (!field.isBlank() && StateSection.from(field) == null) {
+        return "Campo inválido em fields: " + field.trim() + ". Use " + VALID_SECTIONS + ".";
+      }
+    }
+    return null;
+  }
+
+  public EnumSet<StateSection> parseFieldsOrThrow(String fields) {
+    String validation = validateFields(fields);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+    EnumSet<StateSection> sections = EnumSet.noneOf(StateSection.class);
+    for (String field : fields == null ? new String[0] : fields.split(",")) {
+      if (!field.isBlank()) {
+        sections.add(StateSection.from(field));
+      }
+    }
+    return sections;
+  }
+
+  public StateSection parseSectionOrThrow(String section) {
+    StateSection parsed = StateSection.from(section);
+    if (parsed == null) {
+      throw new ResponseStatusException(
+        HttpStatus.NOT_FOUND,
+        "Seção do estado inexistente: " + section + ". Use " + VALID_SECTIONS + "."
+      );
+    }
+    return parsed;
+  }
+
+  public String validateBatch(SprintBatchGetRequestDto request) {
+    if (request == null || request.getIds() == null || request.getIds().isEmpty()) {
+      return "Informe ao menos um id de sprint.";
+    }
+    if (request.getIds().size() > MAX_BATCH_IDS) {
+      return "Informe no máximo " + MAX_BATCH_IDS + " ids de sprint por requisição.";
+    }
+    for (String id : request.getIds()) {
+      if (id == null || id.isBlank()) {
+        return "Ids de sprint não podem ser vazios.";
+      }
+    }
+    if (request.getFields() != null && request.getFields().contains(null)) {
+      return "Campos em fields não podem ser nulos.";
+    }
+    return null;
+  }
+
+  public void validateBatchOrThrow(SprintBatchGetRequestDto request) {
+    String validation = validateBatch(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+
+  public String validateClone(SprintCloneRequestDto request) {
+    if (request == null) {
+      return null;
+    }
+    String startDate = request.getStartDate();
+    if (startDate != null && !startDate.isBlank() && !EpochDays.isPresent(EpochDays.parseIsoDate(startDate))) {
+      return "startDate deve estar no formato ISO (YYYY-MM-DD).";
+    }
+    return null;
+  }
+
+  public void validateCloneOrThrow(SprintCloneRequestDto request) {
+    String validation = validateClone(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+
+  public void validateCloneSourceOrThrow(boolean sourceHasStartDate, SprintCloneRequestDto request) {
+    String startDate = request == null ? null : request.getStartDate();
+    if (!sourceHasStartDate && startDate != null && !startDate.isBlank()) {
+      throw new ResponseStatusException(
+        HttpStatus.BAD_REQUEST,
+        "A origem não tem período definido; não é possível informar startDate."
+      );
+    }
+  }
+
+  private int parseOptionalDate(String value) {
+    if (value == null || value.isBlank()) {
+      return EpochDays.NONE;
+    }
+    int day = EpochDays.parseIsoDate(value);
+    return EpochDays.isPresent(day) ? day : EpochDays.INVALID;
+  }
 }
@@ -6,8 +6,8 @@ import com.sprintplanner.backend.domain.MemberEvent;
 import com.sprintplanner.backend.domain.RootPersistedState;
 import com.sprintplanner.backend.domain.SprintState;
 import com.sprintplanner.backend.domain.TaskItem;
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import com.sprintplanner.backend.util.EpochDays;
+import com.sprintplanner.backend.util.SprintDateIndex;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -17,12 +17,14 @@ import org.springframework.web.server.ResponseStatusException;
 
 @Component
 public class SprintStateValidator {
+  private static final int MAX_SPRINT_DAYS = 366;
+
   public String validate(RootPersistedState state) {
     if (state == null) {
       return "Estado da sprint é obrigatório.";
     }
 
-    String sprintError = validateSprint(state.getSprint());
+    String sprintError = validateSprint(state.getSprint(), SprintDateIndex.forState(state));
     if (sprintError != null) {
       return sprintError;
     }
@@ -62,29 +64,29 @@ public class SprintStateValidator {
     }
   }
 
-  private String validateSprint(SprintState sprint) {
+  private String validateSprint(SprintState sprint, SprintDateIndex dates) {
     if (sprint == null) {
       return "Sprint é obrigatória.";
     }
-    String startDate = sprint.getStartDate();
-    String endDate = sprint.getEndDate();
-    boolean startBlank = startDate == null || startDate.isBlank();
-    boolean endBlank = endDate == null || endDate.isBlank();
+    int start = dates.sprintStart();
+    int end = dates.sprintEnd();
+    boolean startBlank = start == EpochDays.NONE;
+    boolean endBlank = end == EpochDays.NONE;
     if (startBlank && endBlank) {
       return null;
     }
     if (startBlank || endBlank) {
       return "Datas de início e fim são obrigatórias.";
     }
-    try {
-      LocalDate start = LocalDate.parse(startDate);
-      LocalDate end = LocalDate.parse(endDate);
-      if (start.isAfter(end)) {
-        return "Data de início não pode ser posterior à data de fim.";
-      }
-    } catch (DateTimeParseException ex) {
+    if (start == EpochDays.INVALID || end == EpochDays.INVALID) {
       return "Datas de início e fim devem estar no formato ISO (YYYY-MM-DD).";
     }
+    if (start > end) {
+      return "Data de início não pode ser posterior à data de fim.";
+    }
+    if (end - start >= MAX_SPRINT_DAYS) {
+      return "Sprint não pode ultrapassar " + MAX_SPRINT_DAYS + " dias.";
+    }
     return null;
   }
 
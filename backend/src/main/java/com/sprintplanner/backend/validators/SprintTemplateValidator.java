@@ -0,0 +1,31 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.dto.SprintTemplateRequestDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class SprintTemplateValidator {
+  public static final int MAX_NAME_LENGTH = 120;
+
+  public String validate(SprintTemplateRequestDto request) {
+    if (request == null || request.getName() == null || request.getName().isBlank()) {
+      return "Nome do modelo é obrigatório.";
+    }
+    if (request.getName().trim().length() > MAX_NAME_LENGTH) {
+      return "Nome do modelo deve ter no máximo " + MAX_NAME_LENGTH + " caracteres.";
+    }
+    if (request.getSprintId() == null || request.getSprintId().isBlank()) {
+      return "sprintId é obrigatório para criar um modelo.";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(SprintTemplateRequestDto request) {
+    String validation = validate(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.dto.TaskSearchRequestDto;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class TaskSearchValidator {
+  public static final int MAX_PAGE_SIZE = 200;
+
+  public String validate(TaskSearchRequestDto request) {
+    if (request == null) {
+      return "Parâmetros de busca são obrigatórios.";
+    }
+    if (request.getPage() != null && request.getPage() < 0) {
+      return "Página deve ser maior ou igual a zero.";
+    }
+    if (request.getSize() != null && (request.getSize() <= 0 || request.getSize() > MAX_PAGE_SIZE)) {
+      return "Tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE + ".";
+    }
+    if (!isValidDate(request.getDueFrom()) || !isValidDate(request.getDueTo())) {
+      return "Datas de vencimento devem estar no formato ISO (YYYY-MM-DD).";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(TaskSearchRequestDto request) {
+    String validation = validate(request);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+
+  private boolean isValidDate(String value) {
+    if (value == null || value.isBlank()) {
+      return true;
+    }
+    try {
+      LocalDate.parse(value);
+      return true;
+    } catch (DateTimeParseException ex) {
+      return false;
+    }
+  }
+}
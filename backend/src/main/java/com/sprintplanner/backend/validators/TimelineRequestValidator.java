@@ -0,0 +1,28 @@
+package com.sprintplanner.backend.validators;
+
+import com.sprintplanner.backend.util.EpochDays;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class TimelineRequestValidator {
+  public String validate(String from, String to) {
+    int fromDay = EpochDays.parseIsoDate(from);
+    int toDay = EpochDays.parseIsoDate(to);
+    if (fromDay == EpochDays.INVALID || toDay == EpochDays.INVALID) {
+      return "Datas da janela devem estar no formato ISO (YYYY-MM-DD).";
+    }
+    if (EpochDays.isPresent(fromDay) && EpochDays.isPresent(toDay) && fromDay > toDay) {
+      return "Início da janela não pode ser posterior ao fim.";
+    }
+    return null;
+  }
+
+  public void validateOrThrow(String from, String to) {
+    String validation = validate(from, to);
+    if (validation != null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, validation);
+    }
+  }
+}